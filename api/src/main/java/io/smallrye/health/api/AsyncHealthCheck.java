@@ -25,4 +25,17 @@ public interface AsyncHealthCheck {
      * @return {@link Uni} object containing information about the health check result
      */
     Uni<HealthCheckResponse> call();
+
+    /**
+     * Invokes the health check procedure with the context of the current health probe. The runtime always invokes
+     * this method; checks that can adapt to the remaining time budget (e.g., pick a cheaper verification) override
+     * it. The default implementation ignores the context and delegates to {@link #call()}.
+     *
+     * @param context the context of this invocation providing the remaining time budget of the health probe
+     * @return {@link Uni} object containing information about the health check result
+     */
+    @Experimental("Deadline-aware asynchronous Health Check procedures")
+    default Uni<HealthCheckResponse> call(HealthCheckContext context) {
+        return call();
+    }
 }
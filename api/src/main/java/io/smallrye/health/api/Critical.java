@@ -0,0 +1,22 @@
+package io.smallrye.health.api;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Marks a health check bean whose {@code DOWN} status is decisive for the whole liveness probe. When the short-circuit
+ * evaluation of the liveness status is enabled, the critical checks are invoked first and the probe reports
+ * {@code DOWN} as soon as one of them does, without waiting for the remaining checks.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Documented
+@Experimental("Short-circuit evaluation of the liveness status. Not covered by the specification. Subject to change.")
+public @interface Critical {
+}
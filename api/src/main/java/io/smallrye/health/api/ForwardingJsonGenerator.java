@@ -0,0 +1,177 @@
+package io.smallrye.health.api;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * {@link JsonGenerator} forwarding all events to another generator. {@link HealthContentStreamFilter}
+ * implementations extend it and override the events they edit.
+ */
+@Experimental("Health content filtering")
+public abstract class ForwardingJsonGenerator implements JsonGenerator {
+
+    protected final JsonGenerator delegate;
+
+    protected ForwardingJsonGenerator(JsonGenerator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        delegate.writeStartObject();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        delegate.writeStartObject(name);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        delegate.writeKey(name);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        delegate.writeStartArray();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        delegate.writeStartArray(name);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        delegate.write(name, value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        delegate.writeNull(name);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        delegate.writeEnd();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        delegate.write(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        delegate.writeNull();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+}
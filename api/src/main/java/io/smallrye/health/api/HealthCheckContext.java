@@ -0,0 +1,59 @@
+package io.smallrye.health.api;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The context of one invocation of an {@link AsyncHealthCheck}. It tells the check how much of the time budget of
+ * the current health probe remains so that the check can choose a cheaper verification or respond early instead
+ * of being reported as timed out.
+ */
+@Experimental("Deadline-aware asynchronous Health Check procedures")
+public final class HealthCheckContext {
+
+    private static final HealthCheckContext UNBOUNDED = new HealthCheckContext(false, 0);
+
+    private final boolean bounded;
+    private final long deadlineNanos;
+
+    private HealthCheckContext(boolean bounded, long deadlineNanos) {
+        this.bounded = bounded;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @param timeBudget the time the check has from now on to respond
+     * @return the context of an invocation that should respond within the given time budget
+     */
+    public static HealthCheckContext withTimeBudget(Duration timeBudget) {
+        return new HealthCheckContext(true, System.nanoTime() + timeBudget.toNanos());
+    }
+
+    /**
+     * @return the context of an invocation without any deadline
+     */
+    public static HealthCheckContext unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * @return the time remaining until the deadline of this invocation ({@link Duration#ZERO} if the deadline has
+     *         already passed), or an empty {@link Optional} if the invocation has no deadline
+     */
+    public Optional<Duration> getRemainingTime() {
+        if (!bounded) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())));
+    }
+
+    /**
+     * @return {@code true} if the invocation has a deadline and the deadline has already passed
+     */
+    public boolean isExpired() {
+        return bounded && deadlineNanos - System.nanoTime() <= 0;
+    }
+}
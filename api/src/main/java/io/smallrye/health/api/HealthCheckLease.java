@@ -0,0 +1,55 @@
+package io.smallrye.health.api;
+
+import java.time.Duration;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The lease of a health check registered in a {@link HealthRegistry} that expires unless it is renewed within its
+ * lease duration, e.g., a heartbeat of a short-lived worker.
+ */
+@Experimental("Programmatic Health API")
+public interface HealthCheckLease {
+
+    /**
+     * What happens with the registered health check when its lease expires.
+     */
+    enum ExpirationPolicy {
+        /**
+         * The health check is removed from the registry. The lease can't be renewed afterwards.
+         */
+        REMOVE,
+        /**
+         * The health check stays registered but is reported as DOWN until the lease is renewed.
+         */
+        DOWN
+    }
+
+    /**
+     * @return the id of the registered health check
+     */
+    String getId();
+
+    /**
+     * @return the duration for which every renewal extends the lease
+     */
+    Duration getDuration();
+
+    /**
+     * Extends the lease by its duration from now.
+     *
+     * @return {@code true} if the lease was renewed, {@code false} if it was released or if it expired with the
+     *         {@link ExpirationPolicy#REMOVE} policy
+     */
+    boolean renew();
+
+    /**
+     * @return {@code true} if the lease wasn't renewed in time
+     */
+    boolean isExpired();
+
+    /**
+     * Ends the lease and removes the health check from the registry.
+     */
+    void release();
+}
@@ -0,0 +1,27 @@
+package io.smallrye.health.api;
+
+import jakarta.json.stream.JsonGenerator;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Streaming alternative to {@link HealthContentFilter}. Instead of building a modified copy of the whole payload,
+ * the implementations edit the JSON generator events while the health report is written, e.g., by skipping or
+ * renaming fields or by writing additional ones. Individual implementations are collected through CDI so they must be
+ * annotated with some of the bean-defining annotations (e.g., {@link jakarta.enterprise.context.ApplicationScoped}).
+ * <p>
+ * The stream filters are applied after all {@link HealthContentFilter} implementations.
+ */
+@FunctionalInterface
+@Experimental("Health content filtering")
+public interface HealthContentStreamFilter {
+
+    /**
+     * Decorates the generator writing the health report.
+     *
+     * @param generator the generator the filtered events must be written to
+     * @return the generator receiving the events of the health report, usually a {@link ForwardingJsonGenerator}
+     *         overriding the events to edit
+     */
+    JsonGenerator filter(JsonGenerator generator);
+}
@@ -21,6 +21,10 @@
  */
 package io.smallrye.health.api;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
 import org.eclipse.microprofile.health.HealthCheck;
 
 import io.smallrye.common.annotation.Experimental;
@@ -136,4 +140,87 @@ public interface HealthRegistry {
         remove(asyncHealthCheck.getClass().getName());
         return this;
     }
+
+    /**
+     * Programmatic registration of multiple {@link HealthCheck} instances at once. Implementations should apply the
+     * whole batch atomically.
+     *
+     * @param healthChecks the {@link HealthCheck} instances to be registered mapped by their ids
+     * @return this instance for fluent registration
+     * @throws IllegalStateException if the {@link HealthCheck} instances cannot be registered
+     */
+    default HealthRegistry registerAll(Map<String, HealthCheck> healthChecks) {
+        healthChecks.forEach(this::register);
+        return this;
+    }
+
+    /**
+     * Asynchronous variant of {@link HealthRegistry#registerAll(Map)}.
+     *
+     * @param asyncHealthChecks the {@link AsyncHealthCheck} instances to be registered mapped by their ids
+     * @return this instance for fluent registration
+     * @throws IllegalStateException if the {@link AsyncHealthCheck} instances cannot be registered
+     */
+    default HealthRegistry registerAllAsync(Map<String, AsyncHealthCheck> asyncHealthChecks) {
+        asyncHealthChecks.forEach(this::register);
+        return this;
+    }
+
+    /**
+     * Programmatic removal of multiple programmatically registered checks ({@link HealthCheck} or
+     * {@link AsyncHealthCheck}) at once. Unlike {@link HealthRegistry#remove(String)}, ids that are not registered
+     * are ignored. Implementations should apply the whole batch atomically.
+     *
+     * @param ids the ids of the registered checks to be removed
+     * @return this instance for fluent registration
+     */
+    default HealthRegistry removeAll(Collection<String> ids) {
+        for (String id : ids) {
+            try {
+                remove(id);
+            } catch (IllegalStateException e) {
+                // not registered, nothing to remove
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Programmatic removal of all programmatically registered checks ({@link HealthCheck} or
+     * {@link AsyncHealthCheck}) whose ids start with the given prefix, e.g., all checks of one tenant. Nothing is removed
+     * if no registered id starts with the prefix. Implementations should apply the whole removal atomically.
+     *
+     * @param prefix the prefix of the ids of the registered checks to be removed
+     * @return this instance for fluent registration
+     */
+    HealthRegistry removeByPrefix(String prefix);
+
+    /**
+     * Programmatic registration of a {@link HealthCheck} instance that stays healthy only while its lease is
+     * renewed. When the lease isn't renewed within the lease duration, the check is removed or reported as DOWN
+     * depending on the {@code expirationPolicy}.
+     *
+     * @param id the id of the registered check which can be later used for its removal
+     * @param healthCheck the {@link HealthCheck} instance to be registered
+     * @param leaseDuration the duration for which the registration and every renewal extend the lease
+     * @param expirationPolicy what happens with the check when its lease expires
+     * @return the lease of the registered check
+     * @throws IllegalStateException if the {@link HealthCheck} instance cannot be registered
+     */
+    HealthCheckLease registerWithLease(String id, HealthCheck healthCheck, Duration leaseDuration,
+            HealthCheckLease.ExpirationPolicy expirationPolicy);
+
+    /**
+     * Asynchronous variant of
+     * {@link HealthRegistry#registerWithLease(String, HealthCheck, Duration, HealthCheckLease.ExpirationPolicy)}.
+     *
+     * @param id the id of the registered asynchronous check which can be later used for its removal
+     * @param asyncHealthCheck the {@link AsyncHealthCheck} instance to be registered
+     * @param leaseDuration the duration for which the registration and every renewal extend the lease
+     * @param expirationPolicy what happens with the check when its lease expires
+     * @return the lease of the registered check
+     * @throws IllegalStateException if the {@link AsyncHealthCheck} instance cannot be registered
+     */
+    HealthCheckLease registerWithLease(String id, AsyncHealthCheck asyncHealthCheck, Duration leaseDuration,
+            HealthCheckLease.ExpirationPolicy expirationPolicy);
 }
@@ -2,17 +2,35 @@ package io.smallrye.health;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.Bean;
 
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 
 import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.health.api.HealthCheckContext;
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
 
 @ApplicationScoped
 public class AsyncHealthCheckFactory {
@@ -21,36 +39,335 @@ public class AsyncHealthCheckFactory {
     private static final String EXCEPTION_MESSAGE = "exceptionMessage";
     private static final String ROOT_CAUSE = "rootCause";
     private static final String STACK_TRACE = "stackTrace";
+    private static final String TIMEOUT_MILLIS = "timeoutMillis";
+    private static final String CONFIG_PREFIX = "io.smallrye.health.check.";
+    private static final String TIMEOUT = "timeout";
+    private static final String PROBE_DEADLINE = "io.smallrye.health.probeDeadline";
+    private static final long TIMEOUT_FINGERPRINT = TIMEOUT_MILLIS.hashCode();
 
     String uncheckedExceptionDataStyle = ROOT_CAUSE;
 
+    HealthCheckResultCache resultCache = new HealthCheckResultCache();
+
+    /**
+     * The executor invoking the synchronous health checks, {@code null} to invoke them on the subscribing thread.
+     */
+    volatile Executor syncChecksExecutor;
+
+    /**
+     * The deadline of every health check invocation, zero or negative to let the checks run without a deadline.
+     */
+    volatile Duration defaultTimeout = Duration.ZERO;
+
+    /**
+     * The time budget of a whole health probe, zero or negative if the probes are not bounded.
+     */
+    volatile Duration probeTimeout = Duration.ofSeconds(60);
+
+    private final Map<String, Duration> timeouts = new ConcurrentHashMap<>();
+    private final Map<String, Duration> timeoutOverrides = new ConcurrentHashMap<>();
+    private final LongAdder cancelledChecks = new LongAdder();
+    private final LogRateLimiter failureLogLimiter = new LogRateLimiter(Duration.ofMinutes(1));
+
     public AsyncHealthCheckFactory() {
         try {
-            uncheckedExceptionDataStyle = ConfigProvider.getConfig()
+            Config config = ConfigProvider.getConfig();
+            uncheckedExceptionDataStyle = config
                     .getOptionalValue("io.smallrye.health.uncheckedExceptionDataStyle", String.class)
                     .orElse(ROOT_CAUSE);
+
+            if (config.getOptionalValue("io.smallrye.health.syncChecks.parallel", Boolean.class).orElse(false)) {
+                syncChecksExecutor = DefaultSyncChecksExecutor.INSTANCE;
+            }
+
+            defaultTimeout = config.getOptionalValue(CONFIG_PREFIX + TIMEOUT, Duration.class).orElse(Duration.ZERO);
+
+            probeTimeout = Duration.ofSeconds(
+                    config.getOptionalValue("io.smallrye.health.timeout.seconds", Integer.class).orElse(60));
+
+            failureLogLimiter.setWindow(config
+                    .getOptionalValue("io.smallrye.health.logDeduplicationWindow", Duration.class)
+                    .orElse(Duration.ofMinutes(1)));
         } catch (IllegalStateException illegalStateException) {
             // OK, no config provider was found, use default values
         }
     }
 
     public Uni<HealthCheckResponse> callAsync(AsyncHealthCheck asyncHealthCheck) {
-        return withRecovery(asyncHealthCheck.getClass().getName(), Uni.createFrom().deferred(asyncHealthCheck::call));
+        return callAsync(asyncHealthCheck, asyncHealthCheck, InvocationListener.NONE);
+    }
+
+    /**
+     * Invokes the asynchronous health check identified by {@code id} in the configuration of the response cache
+     * and of the timeout, e.g., the ID of the check in a {@link io.smallrye.health.api.HealthRegistry}.
+     */
+    public Uni<HealthCheckResponse> callAsync(String id, AsyncHealthCheck asyncHealthCheck) {
+        return callAsync(id, asyncHealthCheck.getClass().getName(), asyncHealthCheck);
+    }
+
+    /**
+     * Invokes the asynchronous health check identified by {@code id}, its failure and timeout responses are named
+     * {@code name} (e.g., the class name of a check wrapped by the registry). Its responses are cached for this
+     * instance under this ID only, so another check registered under the same ID doesn't get them.
+     */
+    public Uni<HealthCheckResponse> callAsync(String id, String name, AsyncHealthCheck asyncHealthCheck) {
+        return call(new RegisteredCheck(id, asyncHealthCheck), id, name,
+                listener -> invokeAsync(id, asyncHealthCheck, listener), InvocationListener.NONE);
+    }
+
+    /**
+     * Invokes the asynchronous health check configured by its class name. The cancellation of the invocation ends
+     * the use of the instance, as there is no other way to tell when an asynchronous check stops working.
+     *
+     * @param key the identity of the check in the response cache (e.g., its bean), the instances of a class share
+     *        their configuration but not their responses
+     * @param listener notified when the invocation no longer uses the instance
+     */
+    Uni<HealthCheckResponse> callAsync(AsyncHealthCheck asyncHealthCheck, Object key, InvocationListener listener) {
+        String name = checkClassName(asyncHealthCheck, key);
+        return call(key, name, name, tracked -> invokeAsync(name, asyncHealthCheck, tracked), listener);
+    }
+
+    private Uni<HealthCheckResponse> invokeAsync(String id, AsyncHealthCheck asyncHealthCheck,
+            InvocationListener listener) {
+        return notifyTermination(Uni.createFrom().context(
+                context -> Uni.createFrom().deferred(() -> asyncHealthCheck.call(createContext(id, context)))), listener);
     }
 
     public Uni<HealthCheckResponse> callSync(HealthCheck healthCheck) {
-        return withRecovery(healthCheck.getClass().getName(), Uni.createFrom().item(healthCheck::call));
+        return callSync(healthCheck, healthCheck, InvocationListener.NONE);
+    }
+
+    /**
+     * Invokes the synchronous health check identified by {@code id} in the configuration of the response cache
+     * and of the timeout, e.g., the ID of the check in a {@link io.smallrye.health.api.HealthRegistry}.
+     */
+    public Uni<HealthCheckResponse> callSync(String id, HealthCheck healthCheck) {
+        return callSync(id, healthCheck.getClass().getName(), healthCheck);
+    }
+
+    /**
+     * Invokes the synchronous health check identified by {@code id}, its failure and timeout responses are named
+     * {@code name} (e.g., the class name of a check wrapped by the registry). Its responses are cached for this
+     * instance under this ID only, so another check registered under the same ID doesn't get them.
+     */
+    public Uni<HealthCheckResponse> callSync(String id, String name, HealthCheck healthCheck) {
+        return call(new RegisteredCheck(id, healthCheck), id, name, listener -> invokeSync(id, healthCheck, listener),
+                InvocationListener.NONE);
+    }
+
+    /**
+     * Invokes the synchronous health check configured by its class name. A check invoked on an executor keeps using
+     * the instance after a timeout or a cancellation until it returns.
+     *
+     * @param key the identity of the check in the response cache (e.g., its bean), the instances of a class share
+     *        their configuration but not their responses
+     * @param listener notified when the invocation no longer uses the instance
+     */
+    Uni<HealthCheckResponse> callSync(HealthCheck healthCheck, Object key, InvocationListener listener) {
+        String name = checkClassName(healthCheck, key);
+        return call(key, name, name, tracked -> invokeSync(name, healthCheck, tracked), listener);
+    }
+
+    /**
+     * The instance of a normal-scoped bean is its client proxy, a subclass of the bean class, so such a check is
+     * configured and named by its bean class.
+     */
+    private static String checkClassName(Object check, Object key) {
+        if (key instanceof Bean<?> bean && bean.getBeanClass().isInstance(check)) {
+            return bean.getBeanClass().getName();
+        }
+        return check.getClass().getName();
+    }
+
+    private Uni<HealthCheckResponse> invokeSync(String id, HealthCheck healthCheck, InvocationListener listener) {
+        return Uni.createFrom().deferred(() -> {
+            Executor executor = syncChecksExecutor;
+            if (executor == null && hasTimeout(id)) {
+                // a blocking call on the subscribing thread would hold the whole report beyond the deadline
+                executor = DefaultSyncChecksExecutor.INSTANCE;
+            }
+            return executor != null ? InterruptibleHealthCheckCall.create(healthCheck, executor, listener)
+                    : notifyTermination(Uni.createFrom().item(healthCheck::call), listener);
+        });
+    }
+
+    /**
+     * Applies the recovery, the response cache, and the timeout to the invocation of a health check. The listener
+     * learns the outcome of the invocation itself, before a failure is recovered or a timeout is reported as DOWN, and
+     * it is also notified if the check isn't invoked because of a cached response.
+     */
+    private Uni<HealthCheckResponse> call(Object key, String id, String name,
+            Function<InvocationListener, Uni<HealthCheckResponse>> invocation, InvocationListener listener) {
+        if (listener == InvocationListener.NONE) {
+            return withTimeout(key, id, name, resultCache.cached(key, id, withRecovery(key, name, invocation.apply(listener))));
+        }
+
+        return Uni.createFrom().deferred(() -> {
+            // either the check is invoked and notifies the listener when it returns, or it's skipped
+            AtomicBoolean claimed = new AtomicBoolean();
+            Uni<HealthCheckResponse> tracked = Uni.createFrom().deferred(() -> claimed.compareAndSet(false, true)
+                    ? invocation.apply(listener)
+                    : Uni.createFrom().nothing());
+            return withTimeout(key, id, name, resultCache.cached(key, id, withRecovery(key, name, tracked)))
+                    .onTermination().invoke(() -> {
+                        if (claimed.compareAndSet(false, true)) {
+                            listener.finished(true);
+                        }
+                    });
+        });
+    }
+
+    private static Uni<HealthCheckResponse> notifyTermination(Uni<HealthCheckResponse> invocation,
+            InvocationListener listener) {
+        if (listener == InvocationListener.NONE) {
+            return invocation;
+        }
+        return invocation.onTermination().invoke((response, failure, cancelled) -> listener
+                .finished(response != null && failure == null && !cancelled));
+    }
+
+    /**
+     * @param id the health check identifier (its class name or its ID in a health registry)
+     * @return the deadline of the health check invocations, zero or negative if the check has no deadline
+     */
+    public Duration getTimeout(String id) {
+        Duration override = timeoutOverrides.get(id);
+        if (override != null) {
+            return override;
+        }
+
+        return timeouts.computeIfAbsent(id, s -> {
+            try {
+                return ConfigProvider.getConfig()
+                        .getOptionalValue(CONFIG_PREFIX + id + "." + TIMEOUT, Duration.class)
+                        .orElse(defaultTimeout);
+            } catch (IllegalStateException illegalStateException) {
+                // OK, no config provider was found, use default values
+            }
+
+            return defaultTimeout;
+        });
+    }
+
+    /**
+     * Subscribes to a health probe with its deadline in the Mutiny {@link Context}, so that the checks invoked by the
+     * probe get the time left until the deadline as their time budget. The deadline is set once, when the probe is
+     * subscribed.
+     */
+    <T> Uni<T> withProbeDeadline(Uni<T> probe) {
+        Duration timeout = probeTimeout;
+        if (timeout.isZero() || timeout.isNegative()) {
+            return probe;
+        }
+
+        return Uni.createFrom().emitter(emitter -> {
+            Context callerContext = emitter.context();
+            Map<Object, Object> entries = new HashMap<>();
+            for (Object key : callerContext.keys()) {
+                entries.put(key, callerContext.get(key));
+            }
+            entries.put(PROBE_DEADLINE, System.nanoTime() + timeout.toNanos());
+
+            Cancellable subscription = probe.subscribe().with(Context.from(entries), emitter::complete, emitter::fail);
+            emitter.onTermination(subscription::cancel);
+        });
+    }
+
+    /**
+     * Creates the context of an invocation that starts now. Its time budget is the shorter one of the time left until
+     * the deadline of the probe (the probe timeout if the check isn't invoked by a probe) and the timeout of the check.
+     */
+    private HealthCheckContext createContext(String id, Context context) {
+        Duration budget = null;
+        Long probeDeadline = context.getOrElse(PROBE_DEADLINE, () -> null);
+        if (probeDeadline != null) {
+            budget = Duration.ofNanos(Math.max(0, probeDeadline - System.nanoTime()));
+        } else if (!probeTimeout.isZero() && !probeTimeout.isNegative()) {
+            budget = probeTimeout;
+        }
+
+        Duration timeout = getTimeout(id);
+        if (!timeout.isZero() && !timeout.isNegative() && (budget == null || timeout.compareTo(budget) < 0)) {
+            budget = timeout;
+        }
+
+        return budget == null ? HealthCheckContext.unbounded() : HealthCheckContext.withTimeBudget(budget);
+    }
+
+    private boolean hasTimeout(String id) {
+        Duration timeout = getTimeout(id);
+        return !timeout.isZero() && !timeout.isNegative();
+    }
+
+    /**
+     * @return the number of health check invocations cancelled before they responded, either because they exceeded
+     *         their deadline or because the health request was cancelled
+     */
+    public long getCancelledChecks() {
+        return cancelledChecks.sum();
     }
 
-    private Uni<HealthCheckResponse> withRecovery(String name, Uni<HealthCheckResponse> uni) {
-        return uni.onFailure().recoverWithItem(e -> handleFailure(name, e))
+    /**
+     * Reports the check as DOWN if it doesn't respond within its deadline, so that one slow check doesn't hold back
+     * the whole report. The pending invocation is cancelled and the timeout response isn't cached. Repeated timeouts
+     * of a check are logged once per deduplication window, like its failures.
+     */
+    private Uni<HealthCheckResponse> withTimeout(Object key, String id, String name,
+            Uni<HealthCheckResponse> invocation) {
+        // blocking synchronous checks invoked on an executor are interrupted by the cancellation
+        Uni<HealthCheckResponse> uni = invocation.onCancellation().invoke(cancelledChecks::increment);
+        return Uni.createFrom().deferred(() -> {
+            Duration timeout = getTimeout(id);
+            if (timeout.isZero() || timeout.isNegative()) {
+                return uni;
+            }
+
+            return uni.ifNoItem().after(timeout).recoverWithItem(() -> {
+                long suppressed = failureLogLimiter.tryLog(key, TIMEOUT_FINGERPRINT);
+                if (suppressed == 0) {
+                    HealthLogging.logger.healthCheckTimeout(id, timeout.toMillis());
+                } else if (suppressed > 0) {
+                    HealthLogging.logger.healthCheckTimeoutSuppressed(id, timeout.toMillis(), suppressed);
+                }
+                return HealthCheckResponse.named(name).down().withData(TIMEOUT_MILLIS, timeout.toMillis()).build();
+            });
+        });
+    }
+
+    /**
+     * @return the cache of the last health check responses used by this factory
+     */
+    public HealthCheckResultCache getResultCache() {
+        return resultCache;
+    }
+
+    private Uni<HealthCheckResponse> withRecovery(Object key, String name, Uni<HealthCheckResponse> uni) {
+        return uni.onItem().ifNotNull().invoke(response -> resetFailureLog(key))
+                .onFailure().recoverWithItem(e -> handleFailure(key, name, e))
                 .onItem().ifNull()
-                .continueWith(() -> handleFailure(name, HealthMessages.msg.healthCheckNull()));
+                .continueWith(() -> handleFailure(key, name, HealthMessages.msg.healthCheckNull()));
     }
 
-    private HealthCheckResponse handleFailure(String name, Throwable e) {
-        // Log Stacktrace to server log so an error is not just in Health Check response
-        HealthLogging.logger.healthCheckError(e);
+    /**
+     * A successful invocation ends the failures of the check, so its next failure is logged again.
+     */
+    private void resetFailureLog(Object key) {
+        if (!failureLogLimiter.isEmpty()) {
+            failureLogLimiter.reset(key);
+        }
+    }
+
+    private HealthCheckResponse handleFailure(Object key, String name, Throwable e) {
+        // Log Stacktrace to server log so an error is not just in Health Check response, repeated errors only once
+        // per deduplication window
+        long fingerprint = 31L * e.getClass().getName().hashCode() + getRootCause(e).getClass().getName().hashCode();
+        long suppressed = failureLogLimiter.tryLog(key, fingerprint);
+        if (suppressed == 0) {
+            HealthLogging.logger.healthCheckError(e);
+        } else if (suppressed > 0) {
+            HealthLogging.logger.healthCheckErrorSuppressed(name, suppressed, e);
+        }
 
         HealthCheckResponseBuilder response = HealthCheckResponse.named(name).down();
 
@@ -99,4 +416,105 @@ public class AsyncHealthCheckFactory {
         Objects.requireNonNull(uncheckedExceptionDataStyle);
         this.uncheckedExceptionDataStyle = uncheckedExceptionDataStyle;
     }
+
+    public void setDefaultTimeout(Duration defaultTimeout) {
+        Objects.requireNonNull(defaultTimeout);
+        this.defaultTimeout = defaultTimeout;
+        timeouts.clear();
+    }
+
+    public void setTimeout(String id, Duration timeout) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(timeout);
+        timeoutOverrides.put(id, timeout);
+    }
+
+    /**
+     * Sets the time budget of a whole health probe passed to the checks in their {@link HealthCheckContext}.
+     *
+     * @param probeTimeout the probe timeout, zero if the probes are not bounded
+     */
+    public void setProbeTimeout(Duration probeTimeout) {
+        Objects.requireNonNull(probeTimeout);
+        this.probeTimeout = probeTimeout;
+    }
+
+    /**
+     * Sets the executor invoking the synchronous health checks so that they run concurrently with each other.
+     *
+     * @param syncChecksExecutor the executor, or {@code null} to invoke the checks on the subscribing thread
+     */
+    public void setSyncChecksExecutor(Executor syncChecksExecutor) {
+        this.syncChecksExecutor = syncChecksExecutor;
+    }
+
+    /**
+     * Sets the window in which the repeated identical failures of a health check are only logged once.
+     *
+     * @param logDeduplicationWindow the window, zero to log every failure
+     */
+    public void setLogDeduplicationWindow(Duration logDeduplicationWindow) {
+        Objects.requireNonNull(logDeduplicationWindow);
+        failureLogLimiter.setWindow(logDeduplicationWindow);
+    }
+
+    /**
+     * The identity of a check registered under an ID in the response cache and the failure log limiter.
+     */
+    private record RegisteredCheck(String id, Object check) {
+    }
+
+    /**
+     * Notified when an invocation no longer uses the health check instance, i.e., the check has returned even if the
+     * invocation timed out or was cancelled in the meantime, or the check wasn't invoked because its response was
+     * cached.
+     */
+    @FunctionalInterface
+    interface InvocationListener {
+
+        InvocationListener NONE = succeeded -> {
+        };
+
+        /**
+         * @param succeeded {@code false} if the check failed or responded with {@code null}, or if its invocation
+         *        timed out or was cancelled
+         */
+        void finished(boolean succeeded);
+    }
+
+    /**
+     * Lazily created executor shared by all factories. Uses virtual threads when they are available (Java 21+)
+     * and a bounded pool of daemon platform threads otherwise.
+     */
+    private static final class DefaultSyncChecksExecutor {
+
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // virtual threads are not available, fall back to platform threads
+            }
+
+            int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+            try {
+                maxThreads = ConfigProvider.getConfig()
+                        .getOptionalValue("io.smallrye.health.syncChecks.maxThreads", Integer.class)
+                        .orElse(maxThreads);
+            } catch (IllegalStateException illegalStateException) {
+                // OK, no config provider was found, use default values
+            }
+
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "smallrye-health-check-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package io.smallrye.health;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Observed cost and failure history of the health checks, used to order the checks of a short-circuit evaluation so
+ * that the checks most likely to decide the status cheaply are invoked first.
+ */
+final class CheckStatistics {
+
+    /**
+     * @param latencyNanos the exponentially weighted moving average of the invocation latency
+     * @param down whether the last invocation reported {@code DOWN}
+     */
+    private record Stats(long latencyNanos, boolean down) {
+    }
+
+    private static final Stats UNKNOWN = new Stats(0, false);
+
+    private final Map<Object, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Orders the critical checks first, then the checks that were {@code DOWN} the last time, then the cheaper
+     * checks. Checks without statistics are considered cheap.
+     */
+    final Comparator<ExecutionPlan.PlannedCheck> order = Comparator
+            .comparing((ExecutionPlan.PlannedCheck check) -> !check.critical())
+            .thenComparing(check -> !get(check.key()).down())
+            .thenComparingLong(check -> get(check.key()).latencyNanos());
+
+    /**
+     * @param key the key of the planned check, the invocations without a key are not tracked
+     */
+    void record(Object key, long latencyNanos, boolean down) {
+        if (key == null) {
+            return;
+        }
+        stats.compute(key, (k, current) -> new Stats(
+                current == null ? latencyNanos : current.latencyNanos() - current.latencyNanos() / 8 + latencyNanos / 8,
+                down));
+    }
+
+    private Stats get(Object key) {
+        return key == null ? UNKNOWN : stats.getOrDefault(key, UNKNOWN);
+    }
+}
@@ -0,0 +1,175 @@
+package io.smallrye.health;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of the instances of {@link jakarta.enterprise.context.Dependent} health check beans, so that a probe reuses
+ * an idle instance instead of creating and destroying the bean for every invocation. An instance is only used by one
+ * invocation at a time. The idle instances of a bean are reused in the LIFO order, so the surplus instances created
+ * under a burst of concurrent probes age out and are trimmed.
+ */
+final class DependentCheckPool {
+
+    /**
+     * An instance created by the pool.
+     *
+     * @param <T> the type of the health check
+     */
+    static final class PooledInstance<T> {
+        private final T instance;
+        private final Runnable destroyer;
+        private final long createdNanos;
+        private final long generation;
+
+        private PooledInstance(T instance, Runnable destroyer, long createdNanos, long generation) {
+            this.instance = instance;
+            this.destroyer = destroyer;
+            this.createdNanos = createdNanos;
+            this.generation = generation;
+        }
+
+        T get() {
+            return instance;
+        }
+
+        void destroy() {
+            destroyer.run();
+        }
+    }
+
+    private static final class IdleInstances {
+        private final Deque<PooledInstance<?>> instances = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+
+    private final Map<Object, IdleInstances> idleInstances = new ConcurrentHashMap<>();
+    private volatile int maxSize;
+    private volatile long maxAgeNanos;
+    private volatile long generation;
+
+    DependentCheckPool(int maxSize, Duration maxAge) {
+        setMaxSize(maxSize);
+        setMaxAge(maxAge);
+    }
+
+    /**
+     * @return {@code true} if the pool keeps idle instances
+     */
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @param maxSize the maximum number of idle instances per bean, {@code 0} disables the pooling
+     */
+    void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Pool size cannot be negative.");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param maxAge the maximum age of a pooled instance, {@link Duration#ZERO} for instances that don't expire
+     */
+    void setMaxAge(Duration maxAge) {
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("Pool max age cannot be negative.");
+        }
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * Wraps a newly created instance so that it can be released to the pool after its invocation.
+     */
+    <T> PooledInstance<T> create(T instance, Runnable destroyer) {
+        return new PooledInstance<>(instance, destroyer, System.nanoTime(), generation);
+    }
+
+    /**
+     * @return an idle instance of the bean identified by the key, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    <T> PooledInstance<T> acquire(Object key) {
+        IdleInstances idle = idleInstances.get(key);
+        if (idle == null) {
+            return null;
+        }
+
+        PooledInstance<?> pooled;
+        long now = System.nanoTime();
+        while ((pooled = idle.instances.pollFirst()) != null) {
+            idle.size.decrementAndGet();
+            if (!isExpired(pooled, now)) {
+                return (PooledInstance<T>) pooled;
+            }
+            pooled.destroy();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the instance to the pool after its invocation. The instance is destroyed instead if it can't be reused
+     * (e.g., its invocation failed or was cancelled), if it expired, or if the pool of the bean is full.
+     */
+    void release(Object key, PooledInstance<?> pooled, boolean reusable) {
+        long now = System.nanoTime();
+        IdleInstances idle = idleInstances.computeIfAbsent(key, k -> new IdleInstances());
+        if (!reusable || isExpired(pooled, now)) {
+            pooled.destroy();
+        } else if (idle.size.incrementAndGet() > maxSize) {
+            idle.size.decrementAndGet();
+            pooled.destroy();
+        } else {
+            idle.instances.offerFirst(pooled);
+        }
+        trim(idle, now);
+    }
+
+    /**
+     * Destroys all idle instances. The instances in use are destroyed when they are released.
+     */
+    synchronized void clear() {
+        generation++;
+        for (IdleInstances idle : idleInstances.values()) {
+            PooledInstance<?> pooled;
+            while ((pooled = idle.instances.pollFirst()) != null) {
+                idle.size.decrementAndGet();
+                pooled.destroy();
+            }
+        }
+    }
+
+    /**
+     * @return the number of idle instances of the bean identified by the key
+     */
+    int idleCount(Object key) {
+        IdleInstances idle = idleInstances.get(key);
+        return idle == null ? 0 : idle.size.get();
+    }
+
+    /**
+     * Destroys the expired instances, and the surplus ones if the pool size was reduced. The oldest instances are at
+     * the tail of the deque.
+     */
+    private void trim(IdleInstances idle, long now) {
+        PooledInstance<?> last;
+        while ((last = idle.instances.peekLast()) != null
+                && (isExpired(last, now) || idle.size.get() > maxSize)) {
+            if (idle.instances.removeLastOccurrence(last)) {
+                idle.size.decrementAndGet();
+                last.destroy();
+            }
+        }
+    }
+
+    private boolean isExpired(PooledInstance<?> pooled, long now) {
+        return pooled.generation != generation
+                || (maxAgeNanos > 0 && now - pooled.createdNanos >= maxAgeNanos);
+    }
+}
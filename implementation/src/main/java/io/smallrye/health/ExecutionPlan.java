@@ -0,0 +1,38 @@
+package io.smallrye.health;
+
+import java.util.List;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import io.smallrye.health.registry.HealthRegistryImpl;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Immutable set of health check invocations of one health type. The plan is resolved once (beans, enablement,
+ * and {@link Uni} wiring) and then reused by every request until the checks of the registry change.
+ *
+ * @param checks the invocations of the enabled health checks, each of them can be subscribed repeatedly
+ * @param registry the registry of the programmatically registered checks included in this plan
+ * @param registrySnapshot the checks of the {@code registry} at the time this plan was created
+ */
+record ExecutionPlan(List<PlannedCheck> checks, HealthRegistryImpl registry, HealthRegistryImpl.Snapshot registrySnapshot) {
+
+    ExecutionPlan {
+        checks = List.copyOf(checks);
+    }
+
+    boolean isCurrent(HealthRegistryImpl currentRegistry) {
+        return registry == currentRegistry && registry.getSnapshot() == registrySnapshot;
+    }
+
+    /**
+     * A health check invocation of the plan.
+     *
+     * @param key the identity of the check shared by the plans of all health types (the CDI bean), so that a check
+     *        included in several health types is invoked once per evaluation; {@code null} if the check isn't shared
+     * @param invocation the {@link Uni} invoking the check
+     * @param critical whether the check is annotated with {@link io.smallrye.health.api.Critical}
+     */
+    record PlannedCheck(Object key, Uni<HealthCheckResponse> invocation, boolean critical) {
+    }
+}
@@ -0,0 +1,184 @@
+package io.smallrye.health;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Immutable table of the health checks enabled or disabled by the {@code io.smallrye.health.check.<name>.enabled}
+ * properties and the manual overrides. Every resolved name gets an ordinal and the disabled ones are marked in a
+ * {@link BitSet}, so the configuration of a check is looked up once and then only the table is consulted. The checks
+ * missing from the table are added in one batch per execution plan, and the registry IDs are dropped from the table
+ * once they leave the registry.
+ */
+final class HealthCheckEnablement {
+
+    static final HealthCheckEnablement EMPTY = new HealthCheckEnablement(Map.of(), new BitSet());
+
+    private static final String PROPERTY_PREFIX = "io.smallrye.health.check.";
+    private static final String PROPERTY_SUFFIX = ".enabled";
+
+    private final Map<String, Integer> ordinals;
+    private final BitSet disabled;
+
+    private HealthCheckEnablement(Map<String, Integer> ordinals, BitSet disabled) {
+        this.ordinals = ordinals;
+        this.disabled = disabled;
+    }
+
+    /**
+     * @param settings whether the check with the given name (class name or registry ID) is enabled
+     */
+    static HealthCheckEnablement of(Map<String, Boolean> settings) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        BitSet disabled = new BitSet();
+        for (Map.Entry<String, Boolean> setting : settings.entrySet()) {
+            int ordinal = ordinals.size();
+            ordinals.put(setting.getKey(), ordinal);
+            if (!setting.getValue()) {
+                disabled.set(ordinal);
+            }
+        }
+        return new HealthCheckEnablement(Map.copyOf(ordinals), disabled);
+    }
+
+    /**
+     * Resolves the enablement of the given checks and of all checks with an enablement property in the config
+     * sources. The config sources are read directly because their property names can change at runtime.
+     *
+     * @param checkNames the names of the checks to resolve even if the config sources don't list their property
+     *        (e.g., the property is set as an environment variable)
+     * @param overrides the settings that take precedence over the configuration
+     */
+    static HealthCheckEnablement resolve(Collection<String> checkNames, Map<String, Boolean> overrides) {
+        Map<String, Boolean> settings = new HashMap<>();
+        try {
+            Config config = ConfigProvider.getConfig();
+            for (String checkName : checkNames) {
+                settings.put(checkName, isEnabled(config, checkName));
+            }
+            for (ConfigSource configSource : config.getConfigSources()) {
+                for (String propertyName : configSource.getPropertyNames()) {
+                    if (propertyName.startsWith(PROPERTY_PREFIX) && propertyName.endsWith(PROPERTY_SUFFIX)
+                            && propertyName.length() > PROPERTY_PREFIX.length() + PROPERTY_SUFFIX.length()) {
+                        String checkName = propertyName.substring(PROPERTY_PREFIX.length(),
+                                propertyName.length() - PROPERTY_SUFFIX.length());
+                        settings.computeIfAbsent(checkName, name -> isEnabled(config, name));
+                    }
+                }
+            }
+        } catch (IllegalStateException illegalStateException) {
+            // OK, no config provider was found, use default values
+        }
+
+        settings.putAll(overrides);
+        return of(settings);
+    }
+
+    /**
+     * Looks up the enablement of a single check that isn't in the table yet.
+     *
+     * @param overrides the settings that take precedence over the configuration
+     */
+    static boolean lookup(String checkName, Map<String, Boolean> overrides) {
+        Boolean overridden = overrides.get(checkName);
+        if (overridden != null) {
+            return overridden;
+        }
+
+        try {
+            return isEnabled(ConfigProvider.getConfig(), checkName);
+        } catch (IllegalStateException illegalStateException) {
+            // OK, no config provider was found, use default values
+        }
+
+        return true;
+    }
+
+    private static boolean isEnabled(Config config, String checkName) {
+        return config.getOptionalValue(PROPERTY_PREFIX + checkName + PROPERTY_SUFFIX, Boolean.class).orElse(true);
+    }
+
+    /**
+     * @return whether the check is enabled, or {@code null} if the check isn't in the table
+     */
+    Boolean isEnabled(String checkName) {
+        Integer ordinal = ordinals.get(checkName);
+        return ordinal == null ? null : !disabled.get(ordinal);
+    }
+
+    /**
+     * @param settings the resolved enablement of the checks
+     * @return a copy of this table including the checks it doesn't contain yet, or this table if it contains all of
+     *         them
+     */
+    HealthCheckEnablement withAll(Map<String, Boolean> settings) {
+        Map<String, Integer> newOrdinals = null;
+        BitSet newDisabled = null;
+        for (Map.Entry<String, Boolean> setting : settings.entrySet()) {
+            if (ordinals.containsKey(setting.getKey())) {
+                continue;
+            }
+            if (newOrdinals == null) {
+                newOrdinals = new HashMap<>(ordinals);
+                newDisabled = (BitSet) disabled.clone();
+            }
+            int ordinal = newOrdinals.size();
+            newOrdinals.put(setting.getKey(), ordinal);
+            newDisabled.set(ordinal, !setting.getValue());
+        }
+        return newOrdinals == null ? this : new HealthCheckEnablement(Map.copyOf(newOrdinals), newDisabled);
+    }
+
+    /**
+     * @return a copy of this table without the checks, or this table if it contains none of them
+     */
+    HealthCheckEnablement withoutAll(Set<String> checkNames) {
+        boolean contained = false;
+        for (String checkName : checkNames) {
+            if (ordinals.containsKey(checkName)) {
+                contained = true;
+                break;
+            }
+        }
+        if (!contained) {
+            return this;
+        }
+
+        // the remaining checks get new ordinals so that the table doesn't grow with the checks that left
+        Map<String, Integer> newOrdinals = new HashMap<>();
+        BitSet newDisabled = new BitSet();
+        for (Map.Entry<String, Integer> entry : ordinals.entrySet()) {
+            if (!checkNames.contains(entry.getKey())) {
+                int ordinal = newOrdinals.size();
+                newOrdinals.put(entry.getKey(), ordinal);
+                newDisabled.set(ordinal, disabled.get(entry.getValue()));
+            }
+        }
+        return new HealthCheckEnablement(Map.copyOf(newOrdinals), newDisabled);
+    }
+
+    Set<String> checkNames() {
+        return ordinals.keySet();
+    }
+
+    /**
+     * @return {@code true} if the other table enables every check of this table in the same way, regardless of the
+     *         ordinals and of the checks this table doesn't contain
+     */
+    boolean agreesWith(HealthCheckEnablement other) {
+        for (Map.Entry<String, Integer> entry : ordinals.entrySet()) {
+            Integer otherOrdinal = other.ordinals.get(entry.getKey());
+            if (otherOrdinal == null || disabled.get(entry.getValue()) != other.disabled.get(otherOrdinal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,168 @@
+package io.smallrye.health;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Keeps the last {@link HealthCheckResponse} of every health check for a configurable time-to-live so that
+ * probes arriving within the TTL are served from memory without invoking the check again.
+ * <p>
+ * The TTL defaults to {@code io.smallrye.health.check.cache-ttl} and can be overridden per check with
+ * {@code io.smallrye.health.check.<health-check-classname>.cache-ttl}. A zero or negative TTL disables caching,
+ * which is the default.
+ */
+public class HealthCheckResultCache {
+
+    private static final String CONFIG_PREFIX = "io.smallrye.health.check.";
+    private static final String CACHE_TTL = "cache-ttl";
+
+    private final Map<Object, CachedResponse> responses = new ConcurrentHashMap<>();
+    private final Map<String, Duration> ttls = new ConcurrentHashMap<>();
+    private final Map<String, Duration> ttlOverrides = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile Duration defaultTtl = Duration.ZERO;
+
+    public HealthCheckResultCache() {
+        try {
+            defaultTtl = ConfigProvider.getConfig()
+                    .getOptionalValue(CONFIG_PREFIX + CACHE_TTL, Duration.class)
+                    .orElse(Duration.ZERO);
+        } catch (IllegalStateException illegalStateException) {
+            // OK, no config provider was found, use default values
+        }
+    }
+
+    /**
+     * Wraps the invocation of the health check identified by {@code name} so that its response is reused until
+     * the configured TTL expires.
+     *
+     * @param name the health check name (usually its class name) used as the cache key and for the TTL lookup
+     * @param uni the {@link Uni} invoking the health check
+     * @return the caching {@link Uni}, or the passed {@code uni} if caching is disabled for this check
+     */
+    public Uni<HealthCheckResponse> cached(String name, Uni<HealthCheckResponse> uni) {
+        return cached(name, name, uni);
+    }
+
+    /**
+     * Wraps the invocation of a health check so that its response is reused until the configured TTL expires.
+     * Distinct checks configured under the same name (e.g., two instances of one class) are cached separately.
+     *
+     * @param key the identity of the health check used as the cache key (e.g., its bean or instance)
+     * @param name the health check name used for the TTL lookup and by {@link #invalidate(String)}
+     * @param uni the {@link Uni} invoking the health check
+     * @return the caching {@link Uni}, or the passed {@code uni} if caching is disabled for this check
+     */
+    public Uni<HealthCheckResponse> cached(Object key, String name, Uni<HealthCheckResponse> uni) {
+        return Uni.createFrom().deferred(() -> {
+            long ttlNanos = getTtl(name).toNanos();
+            if (ttlNanos <= 0) {
+                return uni;
+            }
+
+            CachedResponse cachedResponse = responses.get(key);
+            if (cachedResponse != null && cachedResponse.expiresAt() - System.nanoTime() > 0) {
+                hits.increment();
+                return Uni.createFrom().item(cachedResponse.response());
+            }
+
+            misses.increment();
+            return uni.invoke(
+                    response -> responses.put(key, new CachedResponse(name, response, System.nanoTime() + ttlNanos)));
+        });
+    }
+
+    /**
+     * @param name the health check name
+     * @return the TTL applied to the health check with the given name
+     */
+    public Duration getTtl(String name) {
+        Duration override = ttlOverrides.get(name);
+        if (override != null) {
+            return override;
+        }
+
+        return ttls.computeIfAbsent(name, s -> {
+            try {
+                return ConfigProvider.getConfig()
+                        .getOptionalValue(CONFIG_PREFIX + name + "." + CACHE_TTL, Duration.class)
+                        .orElse(defaultTtl);
+            } catch (IllegalStateException illegalStateException) {
+                // OK, no config provider was found, use default values
+            }
+
+            return defaultTtl;
+        });
+    }
+
+    /**
+     * @return the number of health check invocations served from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of health check invocations that had to call the health check
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Drops all cached responses.
+     */
+    public void invalidate() {
+        responses.clear();
+    }
+
+    /**
+     * Drops the cached responses of the health checks with the given name.
+     *
+     * @param name the health check name
+     */
+    public void invalidate(String name) {
+        responses.values().removeIf(cachedResponse -> cachedResponse.name().equals(name));
+    }
+
+    /**
+     * Drops the cached responses of the health checks with any of the given names.
+     *
+     * @param names the health check names
+     */
+    public void invalidate(Collection<String> names) {
+        if (!names.isEmpty() && !responses.isEmpty()) {
+            responses.values().removeIf(cachedResponse -> names.contains(cachedResponse.name()));
+        }
+    }
+
+    // Manual config overrides
+
+    public void setDefaultTtl(Duration defaultTtl) {
+        Objects.requireNonNull(defaultTtl);
+        this.defaultTtl = defaultTtl;
+        ttls.clear();
+        responses.clear();
+    }
+
+    public void setTtl(String name, Duration ttl) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(ttl);
+        ttlOverrides.put(name, ttl);
+        invalidate(name);
+    }
+
+    private record CachedResponse(String name, HealthCheckResponse response, long expiresAt) {
+    }
+}
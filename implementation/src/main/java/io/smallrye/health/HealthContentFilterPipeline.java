@@ -0,0 +1,96 @@
+package io.smallrye.health;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+
+import io.smallrye.health.api.HealthContentFilter;
+import io.smallrye.health.api.HealthContentStreamFilter;
+
+/**
+ * The {@link HealthContentFilter} and {@link HealthContentStreamFilter} beans resolved once into a chain applied to
+ * every health report. The {@link Dependent} filter instances live as long as the pipeline and are destroyed with it.
+ */
+final class HealthContentFilterPipeline {
+
+    static final HealthContentFilterPipeline EMPTY = new HealthContentFilterPipeline(List.of(), List.of(), List.of());
+
+    private final List<HealthContentFilter> filters;
+    private final List<HealthContentStreamFilter> streamFilters;
+    private final List<Instance.Handle<?>> dependentHandles;
+
+    private HealthContentFilterPipeline(List<HealthContentFilter> filters, List<HealthContentStreamFilter> streamFilters,
+            List<Instance.Handle<?>> dependentHandles) {
+        this.filters = filters;
+        this.streamFilters = streamFilters;
+        this.dependentHandles = dependentHandles;
+    }
+
+    /**
+     * @param filters the filter beans, can be {@code null} if there is no CDI
+     * @param streamFilters the stream filter beans, can be {@code null} if there is no CDI
+     */
+    static HealthContentFilterPipeline compile(Instance<HealthContentFilter> filters,
+            Instance<HealthContentStreamFilter> streamFilters) {
+        List<Instance.Handle<?>> dependentHandles = new ArrayList<>();
+        List<HealthContentFilter> resolvedFilters = resolve(filters, dependentHandles);
+        List<HealthContentStreamFilter> resolvedStreamFilters = resolve(streamFilters, dependentHandles);
+        if (resolvedFilters.isEmpty() && resolvedStreamFilters.isEmpty()) {
+            return EMPTY;
+        }
+        return new HealthContentFilterPipeline(resolvedFilters, resolvedStreamFilters, List.copyOf(dependentHandles));
+    }
+
+    private static <T> List<T> resolve(Instance<T> instance, List<Instance.Handle<?>> dependentHandles) {
+        if (instance == null || instance.isUnsatisfied()) {
+            return List.of();
+        }
+
+        List<T> resolved = new ArrayList<>();
+        for (Instance.Handle<T> handle : instance.handles()) {
+            resolved.add(handle.get());
+            if (handle.getBean().getScope().equals(Dependent.class)) {
+                dependentHandles.add(handle);
+            }
+        }
+        return List.copyOf(resolved);
+    }
+
+    boolean isEmpty() {
+        return filters.isEmpty() && streamFilters.isEmpty();
+    }
+
+    /**
+     * @return {@code true} if the payload tree has to be built and filtered before it is written
+     */
+    boolean filtersPayload() {
+        return !filters.isEmpty();
+    }
+
+    JsonObject filter(JsonObject payload) {
+        for (HealthContentFilter filter : filters) {
+            payload = filter.filter(payload);
+        }
+        return payload;
+    }
+
+    /**
+     * Chains the stream filters in front of the generator, so the first filter receives the events first.
+     */
+    JsonGenerator decorate(JsonGenerator generator) {
+        for (int i = streamFilters.size() - 1; i >= 0; i--) {
+            generator = streamFilters.get(i).filter(generator);
+        }
+        return generator;
+    }
+
+    void destroy() {
+        for (Instance.Handle<?> handle : dependentHandles) {
+            handle.destroy();
+        }
+    }
+}
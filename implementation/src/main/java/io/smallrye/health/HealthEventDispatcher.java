@@ -0,0 +1,65 @@
+package io.smallrye.health;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers health status change events on a dedicated thread so that the health probes never wait for the
+ * observers. Deliveries with the same key are coalesced: when the observers fall behind, only the latest pending
+ * delivery of every key is performed, so the backlog is bounded by the number of keys.
+ */
+final class HealthEventDispatcher {
+
+    private final Map<Object, Runnable> pendingDeliveries = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    HealthEventDispatcher() {
+        executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-health-event-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules the delivery, replacing the pending delivery with the same key that hasn't started yet.
+     *
+     * @param key the key of the delivered event stream, e.g., the {@link jakarta.enterprise.event.Event} instance
+     * @param delivery the delivery of the latest event
+     */
+    void dispatch(Object key, Runnable delivery) {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        if (pendingDeliveries.put(key, delivery) == null) {
+            // no delivery of this key is scheduled yet, the scheduled one always delivers the latest event
+            try {
+                executor.execute(() -> deliver(key));
+            } catch (RejectedExecutionException e) {
+                // shut down concurrently, the event is dropped
+                pendingDeliveries.remove(key, delivery);
+            }
+        }
+    }
+
+    /**
+     * Stops the delivery thread. The pending deliveries and the ones dispatched afterwards are dropped.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+        pendingDeliveries.clear();
+    }
+
+    private void deliver(Object key) {
+        Runnable delivery = pendingDeliveries.remove(key);
+        if (delivery != null) {
+            delivery.run();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.smallrye.health;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Immutable index of the health check beans by their health groups. It is resolved once from the CDI container, so
+ * a health group request doesn't look up any beans.
+ *
+ * @param groups the invocations of the enabled health check beans of every health group by the group name
+ * @param grouped the invocations of the enabled health check beans that belong to at least one health group
+ * @param ungrouped the invocations of the enabled health check beans that don't belong to any health group
+ */
+record HealthGroupIndex(Map<String, List<Uni<HealthCheckResponse>>> groups, List<Uni<HealthCheckResponse>> grouped,
+        List<Uni<HealthCheckResponse>> ungrouped) {
+
+    static final HealthGroupIndex EMPTY = new HealthGroupIndex(Map.of(), List.of(), List.of());
+
+    HealthGroupIndex {
+        groups = Map.copyOf(groups);
+        grouped = List.copyOf(grouped);
+        ungrouped = List.copyOf(ungrouped);
+    }
+
+    List<Uni<HealthCheckResponse>> group(String groupName) {
+        return groups.getOrDefault(groupName, List.of());
+    }
+}
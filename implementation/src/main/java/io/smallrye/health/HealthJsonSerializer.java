@@ -0,0 +1,181 @@
+package io.smallrye.health;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * Writes health reports with cached {@link JsonGeneratorFactory} instances. The health check responses can be
+ * streamed directly to the output without building the intermediate {@link JsonObject} tree. The generator can be
+ * decorated to edit the written events.
+ */
+final class HealthJsonSerializer {
+
+    private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
+
+    private static final JsonGeneratorFactory PRETTY_GENERATOR_FACTORY = JSON_PROVIDER
+            .createGeneratorFactory(Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+    private static final JsonGeneratorFactory COMPACT_GENERATOR_FACTORY = JSON_PROVIDER
+            .createGeneratorFactory(Collections.emptyMap());
+
+    private HealthJsonSerializer() {
+    }
+
+    static void write(OutputStream out, JsonObject payload, boolean prettyPrint,
+            UnaryOperator<JsonGenerator> decorator) {
+        try (JsonGenerator generator = decorator.apply(createGenerator(out, prettyPrint))) {
+            // written event by event, so that a decorated generator can edit them
+            writeValue(generator, null, payload);
+        }
+    }
+
+    static void write(OutputStream out, HealthCheckResponse.Status status, List<HealthCheckResponse> checks,
+            Map<String, String> additionalProperties, boolean prettyPrint, UnaryOperator<JsonGenerator> decorator) {
+        try (JsonGenerator generator = decorator.apply(createGenerator(out, prettyPrint))) {
+            generator.writeStartObject();
+            generator.write("status", status.toString());
+
+            generator.writeStartArray("checks");
+            GeneratorSink sink = new GeneratorSink(generator);
+            for (HealthCheckResponse response : checks) {
+                generator.writeStartObject();
+                mapResponse(response, sink);
+                generator.writeEnd();
+            }
+            generator.writeEnd();
+
+            additionalProperties.forEach(generator::write);
+            generator.writeEnd();
+        }
+    }
+
+    /**
+     * Maps the name, status, and data of a health check response to the members of its JSON object. This is the
+     * only place defining that mapping, for both the streamed reports and the {@link SmallRyeHealth#getPayload()
+     * payloads}.
+     */
+    static void mapResponse(HealthCheckResponse response, ResponseSink sink) {
+        sink.add("name", response.getName());
+        sink.add("status", response.getStatus().toString());
+        response.getData().ifPresent(data -> {
+            ResponseSink dataSink = sink.startObject("data");
+            for (Map.Entry<String, Object> entry : data.entrySet()) {
+                Object value = entry.getValue();
+                if (value instanceof String s) {
+                    dataSink.add(entry.getKey(), s);
+                } else if (value instanceof Long l) {
+                    dataSink.add(entry.getKey(), l);
+                } else if (value instanceof Boolean b) {
+                    dataSink.add(entry.getKey(), b);
+                }
+            }
+            dataSink.end();
+        });
+    }
+
+    /**
+     * Receives the members of the JSON object of a health check response from {@link #mapResponse}.
+     */
+    interface ResponseSink {
+
+        void add(String name, String value);
+
+        void add(String name, long value);
+
+        void add(String name, boolean value);
+
+        /**
+         * @return the sink of the members of the nested object, ended with {@link #end()}
+         */
+        ResponseSink startObject(String name);
+
+        void end();
+    }
+
+    private static final class GeneratorSink implements ResponseSink {
+
+        private final JsonGenerator generator;
+
+        GeneratorSink(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void add(String name, String value) {
+            generator.write(name, value);
+        }
+
+        @Override
+        public void add(String name, long value) {
+            generator.write(name, value);
+        }
+
+        @Override
+        public void add(String name, boolean value) {
+            generator.write(name, value);
+        }
+
+        @Override
+        public ResponseSink startObject(String name) {
+            generator.writeStartObject(name);
+            return this;
+        }
+
+        @Override
+        public void end() {
+            generator.writeEnd();
+        }
+    }
+
+    /**
+     * @param name the name of the value in its parent object, {@code null} for the root value or an array item
+     */
+    private static void writeValue(JsonGenerator generator, String name, JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                if (name == null) {
+                    generator.writeStartObject();
+                } else {
+                    generator.writeStartObject(name);
+                }
+                for (Map.Entry<String, JsonValue> member : value.asJsonObject().entrySet()) {
+                    writeValue(generator, member.getKey(), member.getValue());
+                }
+                generator.writeEnd();
+                break;
+            case ARRAY:
+                if (name == null) {
+                    generator.writeStartArray();
+                } else {
+                    generator.writeStartArray(name);
+                }
+                for (JsonValue item : value.asJsonArray()) {
+                    writeValue(generator, null, item);
+                }
+                generator.writeEnd();
+                break;
+            default:
+                if (name == null) {
+                    generator.write(value);
+                } else {
+                    generator.write(name, value);
+                }
+        }
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out, boolean prettyPrint) {
+        return (prettyPrint ? PRETTY_GENERATOR_FACTORY : COMPACT_GENERATOR_FACTORY).createGenerator(out,
+                StandardCharsets.UTF_8);
+    }
+}
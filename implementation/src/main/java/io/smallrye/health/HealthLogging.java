@@ -25,4 +25,24 @@ interface HealthLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.ERROR)
     @Message(id = 1002, value = "Health change observer error")
     void healthChangeObserverError(@Cause Throwable throwable);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 1003, value = "Scheduled health evaluation failed")
+    void scheduledEvaluationError(@Cause Throwable throwable);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1004, value = "Health check %s did not respond within %d ms and is reported as DOWN")
+    void healthCheckTimeout(String id, long timeoutMillis);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 1005, value = "Reporting health down status (%d identical reports suppressed since the last one): %s")
+    void healthDownStatusSuppressed(long suppressed, String cause);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 1006, value = "Error processing Health Check %s (%d identical errors suppressed since the last one)")
+    void healthCheckErrorSuppressed(String name, long suppressed, @Cause Throwable throwable);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1007, value = "Health check %s did not respond within %d ms and is reported as DOWN (%d identical timeouts suppressed since the last one)")
+    void healthCheckTimeoutSuppressed(String id, long timeoutMillis, long suppressed);
 }
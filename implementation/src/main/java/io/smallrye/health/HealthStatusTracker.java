@@ -0,0 +1,76 @@
+package io.smallrye.health;
+
+import static org.eclipse.microprofile.health.HealthCheckResponse.Status.DOWN;
+import static org.eclipse.microprofile.health.HealthCheckResponse.Status.UP;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * Lock-free tracking of the last reported status of every key (a health type, a health group, or the overall
+ * health). Each evaluation takes a sequence number when it starts and reports its statuses with it, so that
+ * concurrent evaluations completing in any order result in exactly one transition per real status change and
+ * a stale evaluation never overrides the status reported by a newer one.
+ */
+final class HealthStatusTracker {
+
+    private static final StatusState INITIAL_STATE = new StatusState(UP, Long.MIN_VALUE);
+
+    private final ConcurrentMap<Object, AtomicReference<StatusState>> states = new ConcurrentHashMap<>();
+    private final AtomicLong evaluationSequence = new AtomicLong();
+
+    /**
+     * @return the sequence number of a new evaluation
+     */
+    long startEvaluation() {
+        return evaluationSequence.incrementAndGet();
+    }
+
+    /**
+     * Records the status of the key reported by the evaluation with the given sequence number.
+     *
+     * @return {@code true} if the status of the key changed, {@code false} if it stayed the same or if a newer
+     *         evaluation has already reported the status of the key
+     */
+    boolean transition(Object key, long sequence, HealthCheckResponse.Status status) {
+        AtomicReference<StatusState> state = getState(key);
+        StatusState newState = new StatusState(status, sequence);
+
+        while (true) {
+            StatusState current = state.get();
+            if (sequence < current.sequence()) {
+                return false;
+            }
+            if (state.compareAndSet(current, newState)) {
+                return current.status() != status;
+            }
+        }
+    }
+
+    /**
+     * @return {@link HealthCheckResponse.Status#DOWN} if the last reported status of any of the keys is DOWN
+     */
+    HealthCheckResponse.Status combinedStatus(Iterable<?> keys) {
+        for (Object key : keys) {
+            if (getState(key).get().status() == DOWN) {
+                return DOWN;
+            }
+        }
+        return UP;
+    }
+
+    private AtomicReference<StatusState> getState(Object key) {
+        AtomicReference<StatusState> state = states.get(key);
+        if (state == null) {
+            state = states.computeIfAbsent(key, k -> new AtomicReference<>(INITIAL_STATE));
+        }
+        return state;
+    }
+
+    private record StatusState(HealthCheckResponse.Status status, long sequence) {
+    }
+}
@@ -0,0 +1,99 @@
+package io.smallrye.health;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Invocation of a blocking {@link HealthCheck} on an executor that interrupts the invoking thread when the
+ * subscription is cancelled (e.g., the check timed out or the caller went away), so that cancelled checks don't
+ * keep occupying threads. The listener is notified once the check has returned, which can be after the cancellation.
+ */
+final class InterruptibleHealthCheckCall implements Runnable {
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int INTERRUPTING = 2;
+    private static final int CANCELLED = 3;
+    private static final int DONE = 4;
+
+    private final HealthCheck healthCheck;
+    private final UniEmitter<? super HealthCheckResponse> emitter;
+    private final AsyncHealthCheckFactory.InvocationListener listener;
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private volatile Thread runner;
+
+    private InterruptibleHealthCheckCall(HealthCheck healthCheck, UniEmitter<? super HealthCheckResponse> emitter,
+            AsyncHealthCheckFactory.InvocationListener listener) {
+        this.healthCheck = healthCheck;
+        this.emitter = emitter;
+        this.listener = listener;
+    }
+
+    static Uni<HealthCheckResponse> create(HealthCheck healthCheck, Executor executor,
+            AsyncHealthCheckFactory.InvocationListener listener) {
+        return Uni.createFrom().emitter(emitter -> {
+            InterruptibleHealthCheckCall call = new InterruptibleHealthCheckCall(healthCheck, emitter, listener);
+            // also invoked on completion, in which case there is nothing left to cancel
+            emitter.onTermination(call::cancel);
+            executor.execute(call);
+        });
+    }
+
+    @Override
+    public void run() {
+        runner = Thread.currentThread();
+        if (!state.compareAndSet(NEW, RUNNING)) {
+            // cancelled before it started
+            return;
+        }
+
+        HealthCheckResponse response = null;
+        Throwable failure = null;
+        try {
+            response = healthCheck.call();
+        } catch (Throwable t) {
+            failure = t;
+        }
+
+        if (state.compareAndSet(RUNNING, DONE)) {
+            try {
+                listener.finished(failure == null && response != null);
+            } finally {
+                if (failure != null) {
+                    emitter.fail(failure);
+                } else {
+                    emitter.complete(response);
+                }
+            }
+        } else {
+            // wait for the pending interrupt and clear it so that it doesn't hit the next task of this thread
+            while (state.get() == INTERRUPTING) {
+                Thread.onSpinWait();
+            }
+            Thread.interrupted();
+            listener.finished(false);
+        }
+    }
+
+    private void cancel() {
+        if (state.compareAndSet(NEW, CANCELLED)) {
+            // the check was never invoked
+            listener.finished(false);
+            return;
+        }
+
+        if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+            try {
+                runner.interrupt();
+            } finally {
+                state.set(CANCELLED);
+            }
+        }
+    }
+}
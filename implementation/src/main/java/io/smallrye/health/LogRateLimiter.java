@@ -0,0 +1,99 @@
+package io.smallrye.health;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Deduplicates repeated log messages. Every message is logged under a key (e.g., the ID of a health check) with a
+ * fingerprint of its content. A message is logged when its fingerprint differs from the last logged one of the same
+ * key, otherwise at most once per window together with the number of the suppressed messages. The keys whose window
+ * expired are evicted at most once per window, so that the keys of removed health checks don't accumulate.
+ */
+final class LogRateLimiter {
+
+    static final long SUPPRESSED = -1;
+
+    private record LogState(long fingerprint, long windowStart, long suppressed) {
+    }
+
+    private final Map<Object, LogState> states = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextEviction;
+    private volatile long windowNanos;
+
+    LogRateLimiter(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock the current time in nanoseconds
+     */
+    LogRateLimiter(Duration window, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.nextEviction = new AtomicLong(nanoClock.getAsLong());
+        setWindow(window);
+    }
+
+    /**
+     * @param window the minimal interval between two identical messages, zero or negative to log every message
+     */
+    void setWindow(Duration window) {
+        this.windowNanos = window.isNegative() ? 0 : window.toNanos();
+    }
+
+    /**
+     * @return {@link #SUPPRESSED} if the message should not be logged, otherwise the number of the identical messages
+     *         suppressed since it was last logged
+     */
+    long tryLog(Object key, long fingerprint) {
+        long window = windowNanos;
+        if (window == 0) {
+            return 0;
+        }
+
+        long now = nanoClock.getAsLong();
+        evictExpired(now, window);
+        long[] suppressedBefore = new long[1];
+        LogState state = states.compute(key, (k, current) -> {
+            if (current != null && current.fingerprint() == fingerprint) {
+                if (now - current.windowStart() < window) {
+                    return new LogState(fingerprint, current.windowStart(), current.suppressed() + 1);
+                }
+                suppressedBefore[0] = current.suppressed();
+            }
+            return new LogState(fingerprint, now, 0);
+        });
+
+        return state.suppressed() > 0 ? SUPPRESSED : suppressedBefore[0];
+    }
+
+    /**
+     * Evicts the keys whose window expired. A key with suppressed messages is kept for one more window, so that its
+     * next message still reports them unless the key stayed silent for that long.
+     */
+    private void evictExpired(long now, long window) {
+        long eviction = nextEviction.get();
+        if (now - eviction < 0 || !nextEviction.compareAndSet(eviction, now + window)) {
+            return;
+        }
+
+        states.values().removeIf(state -> now - state.windowStart() >= (state.suppressed() == 0 ? window : 2 * window));
+    }
+
+    /**
+     * Forgets the last message of the key, so the next one is logged as a transition.
+     */
+    void reset(Object key) {
+        states.remove(key);
+    }
+
+    /**
+     * @return {@code true} if no message is tracked, so there is nothing to reset
+     */
+    boolean isEmpty() {
+        return states.isEmpty();
+    }
+}
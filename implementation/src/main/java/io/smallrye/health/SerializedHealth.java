@@ -0,0 +1,55 @@
+package io.smallrye.health;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Serialized health report together with its strong entity tag and the settings it was serialized with.
+ */
+final class SerializedHealth {
+
+    private final byte[] bytes;
+    private final boolean prettyPrint;
+    private final HealthContentFilterPipeline filterPipeline;
+    private volatile String eTag;
+
+    SerializedHealth(byte[] bytes, boolean prettyPrint, HealthContentFilterPipeline filterPipeline) {
+        this.bytes = bytes;
+        this.prettyPrint = prettyPrint;
+        this.filterPipeline = filterPipeline;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    boolean prettyPrint() {
+        return prettyPrint;
+    }
+
+    /**
+     * @return {@code true} if this report was serialized with the given settings, so it can be reused
+     */
+    boolean matches(boolean prettyPrint, HealthContentFilterPipeline filterPipeline) {
+        return this.prettyPrint == prettyPrint && this.filterPipeline == filterPipeline;
+    }
+
+    /**
+     * @return the quoted SHA-256 hash of the serialized report usable as an HTTP {@code ETag} header value
+     */
+    String eTag() {
+        String result = eTag;
+        if (result == null) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+                result = '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+            } catch (NoSuchAlgorithmException e) {
+                // every Java platform is required to support SHA-256
+                throw new IllegalStateException(e);
+            }
+            eTag = result;
+        }
+        return result;
+    }
+}
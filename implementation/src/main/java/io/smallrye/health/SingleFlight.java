@@ -0,0 +1,34 @@
+package io.smallrye.health;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Coalesces concurrent evaluations with the same key into a single in-flight {@link Uni}. Every subscriber that
+ * arrives while an evaluation is running receives its result; the next subscriber after its termination starts
+ * a new evaluation.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Uni<V>> inFlight = new ConcurrentHashMap<>();
+
+    Uni<V> execute(K key, Supplier<Uni<V>> evaluation) {
+        return Uni.createFrom().deferred(() -> inFlight.computeIfAbsent(key, k -> share(k, evaluation)));
+    }
+
+    /**
+     * Only assembles the shared {@link Uni} since it runs while the map holds the lock of the key, the evaluation is
+     * started by the first subscription once the compute function has returned.
+     */
+    private Uni<V> share(K key, Supplier<Uni<V>> evaluation) {
+        AtomicReference<Uni<V>> shared = new AtomicReference<>();
+        shared.set(Uni.createFrom().deferred(evaluation::get)
+                .onTermination().invoke(() -> inFlight.remove(key, shared.get()))
+                .memoize().indefinitely());
+        return shared.get();
+    }
+}
@@ -2,24 +2,63 @@ package io.smallrye.health;
 
 import static org.eclipse.microprofile.health.HealthCheckResponse.Status.DOWN;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.spi.JsonProvider;
 
 import org.eclipse.microprofile.health.HealthCheckResponse;
 
 public class SmallRyeHealth {
 
-    private final JsonObject payload;
+    private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
+
+    /**
+     * Built from the responses on the first access if this instance wasn't created from a payload.
+     */
+    private volatile JsonObject payload;
     private final HealthCheckResponse.Status status;
 
+    /**
+     * The responses and additional properties the payload is created from, {@code null} if this instance was
+     * created from a payload only. They allow the payload to be streamed without walking the JSON tree. They must
+     * not be modified after this instance is created.
+     */
+    final List<HealthCheckResponse> checks;
+    final Map<String, String> additionalProperties;
+
+    /**
+     * The report serialized by {@link SmallRyeHealthReporter}, computed lazily and reused by every subsequent report
+     * of this instance.
+     */
+    volatile SerializedHealth serialized;
+
     public SmallRyeHealth(JsonObject payload) {
         this.payload = payload;
         this.status = HealthCheckResponse.Status.valueOf(payload.getString("status"));
+        this.checks = null;
+        this.additionalProperties = null;
+    }
+
+    SmallRyeHealth(HealthCheckResponse.Status status, List<HealthCheckResponse> checks,
+            Map<String, String> additionalProperties) {
+        this.status = status;
+        this.checks = checks;
+        this.additionalProperties = additionalProperties;
     }
 
     public JsonObject getPayload() {
-        return payload;
+        JsonObject result = payload;
+        if (result == null) {
+            // concurrent first accesses may build equal payloads, any of them can be kept
+            result = createPayload();
+            payload = result;
+        }
+        return result;
     }
 
     public HealthCheckResponse.Status getStatus() {
@@ -30,6 +69,95 @@ public class SmallRyeHealth {
         return status.equals(DOWN);
     }
 
+    /**
+     * Computes a hash of the checks from the responses, or from the payload if this instance was created from a
+     * payload only, without serializing the payload.
+     *
+     * @param withStatuses whether the statuses of the checks are included in the hash in addition to their names
+     */
+    long fingerprint(boolean withStatuses) {
+        long fingerprint = withStatuses ? status.ordinal() : 0;
+        if (checks != null) {
+            for (HealthCheckResponse check : checks) {
+                fingerprint = 31 * fingerprint + check.getName().hashCode();
+                if (withStatuses) {
+                    fingerprint = 31 * fingerprint + check.getStatus().ordinal();
+                }
+            }
+        } else if (getPayload().containsKey("checks")) {
+            for (JsonObject check : getPayload().getJsonArray("checks").getValuesAs(JsonObject.class)) {
+                fingerprint = 31 * fingerprint + check.getString("name", "").hashCode();
+                if (withStatuses) {
+                    fingerprint = 31 * fingerprint + check.getString("status", "").hashCode();
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+    private JsonObject createPayload() {
+        JsonArrayBuilder checkResults = JSON_PROVIDER.createArrayBuilder();
+        for (HealthCheckResponse response : checks) {
+            checkResults.add(createCheckPayload(response));
+        }
+
+        JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
+        builder.add("status", status.toString());
+        builder.add("checks", checkResults);
+        additionalProperties.forEach(builder::add);
+        return builder.build();
+    }
+
+    private static JsonObject createCheckPayload(HealthCheckResponse response) {
+        JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
+        HealthJsonSerializer.mapResponse(response, new BuilderSink(builder, null, null));
+        return builder.build();
+    }
+
+    private static final class BuilderSink implements HealthJsonSerializer.ResponseSink {
+
+        private final JsonObjectBuilder builder;
+        private final JsonObjectBuilder parent;
+        private final String name;
+
+        /**
+         * @param parent the builder of the enclosing object that this object is added to on {@link #end()},
+         *        {@code null} for a top-level object
+         */
+        BuilderSink(JsonObjectBuilder builder, JsonObjectBuilder parent, String name) {
+            this.builder = builder;
+            this.parent = parent;
+            this.name = name;
+        }
+
+        @Override
+        public void add(String name, String value) {
+            builder.add(name, value);
+        }
+
+        @Override
+        public void add(String name, long value) {
+            builder.add(name, value);
+        }
+
+        @Override
+        public void add(String name, boolean value) {
+            builder.add(name, value);
+        }
+
+        @Override
+        public HealthJsonSerializer.ResponseSink startObject(String name) {
+            return new BuilderSink(JSON_PROVIDER.createObjectBuilder(), builder, name);
+        }
+
+        @Override
+        public void end() {
+            if (parent != null) {
+                parent.add(name, builder);
+            }
+        }
+    }
+
     @Override
     public int hashCode() {
         return Objects.hashCode(getPayload());
@@ -7,22 +7,42 @@ import static io.smallrye.health.api.HealthType.WELLNESS;
 import static org.eclipse.microprofile.health.HealthCheckResponse.Status.DOWN;
 import static org.eclipse.microprofile.health.HealthCheckResponse.Status.UP;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.ObserverException;
 import jakarta.enterprise.inject.Any;
@@ -32,14 +52,6 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.inject.Inject;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
-import jakarta.json.JsonObject;
-import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonWriter;
-import jakarta.json.JsonWriterFactory;
-import jakarta.json.spi.JsonProvider;
-import jakarta.json.stream.JsonGenerator;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -52,20 +64,22 @@ import org.eclipse.microprofile.health.Startup;
 import io.smallrye.common.annotation.Experimental;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.health.api.Critical;
 import io.smallrye.health.api.HealthContentFilter;
+import io.smallrye.health.api.HealthContentStreamFilter;
 import io.smallrye.health.api.HealthGroup;
+import io.smallrye.health.api.HealthGroups;
 import io.smallrye.health.api.HealthType;
 import io.smallrye.health.api.Wellness;
 import io.smallrye.health.event.SmallRyeHealthStatusChangeEvent;
 import io.smallrye.health.registry.HealthRegistries;
 import io.smallrye.health.registry.HealthRegistryImpl;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
 
 @ApplicationScoped
 public class SmallRyeHealthReporter {
 
-    private static final Map<String, ?> JSON_CONFIG = Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true);
-
     /**
      * can be {@code null} if SmallRyeHealthReporter is used in a non-CDI environment
      */
@@ -113,6 +127,10 @@ public class SmallRyeHealthReporter {
     @Any
     Instance<HealthContentFilter> healthContentFilters;
 
+    @Inject
+    @Any
+    Instance<HealthContentStreamFilter> healthContentStreamFilters;
+
     @Inject
     BeanManager beanManager;
 
@@ -128,25 +146,54 @@ public class SmallRyeHealthReporter {
     Map<String, Boolean> healthChecksConfigs = new ConcurrentHashMap<>();
     boolean delayHealthCheckInit = false;
     String defaultHealthGroup = null;
+    boolean singleFlight = false;
+    boolean prettyPrint = true;
+    Duration scheduledEvaluationInterval = Duration.ZERO;
+    boolean asyncEvents = false;
+    int dependentChecksPoolSize = 0;
+    Duration dependentChecksPoolMaxAge = Duration.ZERO;
+    Duration enablementReloadInterval = Duration.ZERO;
+    Duration logDeduplicationWindow = Duration.ofMinutes(1);
+    boolean livenessShortCircuit = false;
+    boolean startupLatch = false;
 
     @Inject
     AsyncHealthCheckFactory asyncHealthCheckFactory;
 
     private final Map<String, Uni<HealthCheckResponse>> additionalChecks = new HashMap<>();
 
-    private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
+    private final SingleFlight<Object, SmallRyeHealth> inFlightEvaluations = new SingleFlight<>();
+    private final SingleFlight<Object, HealthCheckResponse.Status> inFlightStatusEvaluations = new SingleFlight<>();
+
+    private final HealthEventDispatcher eventDispatcher = new HealthEventDispatcher();
+
+    private final DependentCheckPool dependentCheckPool;
+
+    private final LogRateLimiter downLogLimiter;
+
+    private ScheduledExecutorService scheduler;
+    private boolean shutdown = false;
+    volatile HealthSnapshot snapshot;
+
     private volatile boolean checksInitialized = false;
 
-    private HealthCheckResponse.Status healthStatus = UP;
-    private HealthCheckResponse.Status livenessStatus = UP;
-    private HealthCheckResponse.Status readinessStatus = UP;
-    private HealthCheckResponse.Status startupStatus = UP;
-    private HealthCheckResponse.Status wellnessStatus = UP;
+    /**
+     * The status tracker key of the overall health status.
+     */
+    private static final Object OVERALL_HEALTH = new Object();
+    private static final List<HealthType> HEALTH_TYPES = List.of(LIVENESS, READINESS, STARTUP, WELLNESS);
+
+    private final HealthStatusTracker statusTracker = new HealthStatusTracker();
+    private final CheckStatistics checkStatistics = new CheckStatistics();
+    private final AtomicReference<StartupLatch> latchedStartup = new AtomicReference<>(new StartupLatch(null, null));
+
+    private final Map<HealthType, ExecutionPlan> executionPlans = new ConcurrentHashMap<>();
+    private final Map<HealthRegistryImpl, ExecutionPlan> groupRegistryPlans = new ConcurrentHashMap<>();
+    private volatile HealthGroupIndex groupIndex;
+    private volatile HealthContentFilterPipeline filterPipeline;
 
-    private List<Uni<HealthCheckResponse>> livenessUnis = new CopyOnWriteArrayList<>();
-    private List<Uni<HealthCheckResponse>> readinessUnis = new CopyOnWriteArrayList<>();
-    private List<Uni<HealthCheckResponse>> wellnessUnis = new CopyOnWriteArrayList<>();
-    private List<Uni<HealthCheckResponse>> startupUnis = new CopyOnWriteArrayList<>();
+    private final AtomicReference<HealthCheckEnablement> enablement = new AtomicReference<>(HealthCheckEnablement.EMPTY);
+    private final AtomicLong nextEnablementReload = new AtomicLong(System.nanoTime());
 
     public SmallRyeHealthReporter() {
         try {
@@ -164,13 +211,43 @@ public class SmallRyeHealthReporter {
                     .orElse(false);
 
             defaultHealthGroup = config.getOptionalValue("io.smallrye.health.defaultHealthGroup", String.class).orElse(null);
+
+            singleFlight = config.getOptionalValue("io.smallrye.health.singleFlight", Boolean.class).orElse(false);
+
+            prettyPrint = config.getOptionalValue("io.smallrye.health.prettyPrint", Boolean.class).orElse(true);
+
+            scheduledEvaluationInterval = schedulableInterval(config
+                    .getOptionalValue("io.smallrye.health.scheduledEvaluation.interval", Duration.class)
+                    .orElse(Duration.ZERO));
+
+            asyncEvents = config.getOptionalValue("io.smallrye.health.asyncEvents", Boolean.class).orElse(false);
+
+            dependentChecksPoolSize = config
+                    .getOptionalValue("io.smallrye.health.dependentChecks.pool.size", Integer.class).orElse(0);
+
+            dependentChecksPoolMaxAge = config
+                    .getOptionalValue("io.smallrye.health.dependentChecks.pool.maxAge", Duration.class)
+                    .orElse(Duration.ZERO);
+
+            enablementReloadInterval = config
+                    .getOptionalValue("io.smallrye.health.enablement.reloadInterval", Duration.class)
+                    .orElse(Duration.ZERO);
+
+            logDeduplicationWindow = config
+                    .getOptionalValue("io.smallrye.health.logDeduplicationWindow", Duration.class)
+                    .orElse(Duration.ofMinutes(1));
+
+            livenessShortCircuit = config.getOptionalValue("io.smallrye.health.liveness.shortCircuit", Boolean.class)
+                    .orElse(false);
+
+            startupLatch = config.getOptionalValue("io.smallrye.health.startup.latch", Boolean.class).orElse(false);
         } catch (IllegalStateException illegalStateException) {
             // OK, no config provider was found, use default values
         }
 
-        if (!delayHealthCheckInit) {
-            initChecks();
-        }
+        dependentCheckPool = new DependentCheckPool(dependentChecksPoolSize, dependentChecksPoolMaxAge);
+        downLogLimiter = new LogRateLimiter(logDeduplicationWindow);
+        enablement.set(HealthCheckEnablement.resolve(Set.of(), healthChecksConfigs));
 
         try {
             asyncHealthCheckFactory = CDI.current().select(AsyncHealthCheckFactory.class).get();
@@ -180,98 +257,368 @@ public class SmallRyeHealthReporter {
         }
     }
 
+    @PostConstruct
+    void init() {
+        asyncHealthCheckFactory.setProbeTimeout(Duration.ofSeconds(timeoutSeconds));
+        if (!delayHealthCheckInit) {
+            initChecks();
+        }
+    }
+
     private synchronized void initChecks() {
         if (checksInitialized) {
             return;
         }
-        initUnis(livenessUnis, livenessChecks, asyncLivenessChecks);
-        initUnis(readinessUnis, readinessChecks, asyncReadinessChecks);
-        initUnis(wellnessUnis, wellnessChecks, asyncWellnessChecks);
-        initUnis(startupUnis, startupChecks, asyncStartupChecks);
+        for (HealthType type : HealthType.values()) {
+            executionPlans.put(type, createExecutionPlan(type, executionPlans.get(type)));
+        }
         checksInitialized = true;
     }
 
-    private void initUnis(List<Uni<HealthCheckResponse>> list, Instance<HealthCheck> checks,
-            Instance<AsyncHealthCheck> asyncChecks) {
+    /**
+     * Returns the execution plan of the health type. The plan is only created again when the health checks
+     * configuration changes or when the checks in the health registry of the type change.
+     */
+    private ExecutionPlan getExecutionPlan(HealthType type) {
+        reloadEnablementIfDue();
+        if (!checksInitialized) {
+            initChecks();
+        }
+
+        ExecutionPlan plan = executionPlans.get(type);
+        if (plan == null || !plan.isCurrent(getHealthRegistry(type))) {
+            plan = createExecutionPlan(type, plan);
+            executionPlans.put(type, plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * @param previous the plan this one replaces, if any
+     */
+    private ExecutionPlan createExecutionPlan(HealthType type, ExecutionPlan previous) {
+        EnablementResolution enabled = new EnablementResolution();
+        List<ExecutionPlan.PlannedCheck> checks = new ArrayList<>();
+
+        switch (type) {
+            case LIVENESS:
+                initUnis(checks, livenessChecks, asyncLivenessChecks, enabled);
+                break;
+            case READINESS:
+                initUnis(checks, readinessChecks, asyncReadinessChecks, enabled);
+                break;
+            case WELLNESS:
+                initUnis(checks, wellnessChecks, asyncWellnessChecks, enabled);
+                break;
+            case STARTUP:
+                initUnis(checks, startupChecks, asyncStartupChecks, enabled);
+                break;
+        }
+
+        return planRegistryChecks(checks, getHealthRegistry(type), previous, enabled);
+    }
+
+    /**
+     * Adds the enabled checks of the registry to the plan. The enablement resolved for the plan is recorded in the
+     * enablement table at once, and the IDs that left the registry since the previous plan are dropped from it.
+     */
+    private ExecutionPlan planRegistryChecks(List<ExecutionPlan.PlannedCheck> checks, HealthRegistryImpl registry,
+            ExecutionPlan previous, EnablementResolution enabled) {
+        HealthRegistryImpl.Snapshot registrySnapshot = registry.getSnapshot();
+        for (Uni<HealthCheckResponse> registryCheck : registry.getChecks(registrySnapshot, enabled)) {
+            checks.add(new ExecutionPlan.PlannedCheck(null, registryCheck, false));
+        }
+
+        enabled.complete(previous == null ? Set.of() : previous.registrySnapshot().idsMissingFrom(registrySnapshot));
+        return new ExecutionPlan(checks, registry, registrySnapshot);
+    }
+
+    /**
+     * Returns the enabled checks of the health group registry, they are only resolved again when the checks of the
+     * registry change.
+     */
+    private List<Uni<HealthCheckResponse>> getGroupRegistryChecks(HealthRegistryImpl registry) {
+        ExecutionPlan plan = groupRegistryPlans.get(registry);
+        if (plan == null || !plan.isCurrent(registry)) {
+            plan = planRegistryChecks(new ArrayList<>(), registry, plan, new EnablementResolution());
+            groupRegistryPlans.put(registry, plan);
+        }
+
+        List<Uni<HealthCheckResponse>> checks = new ArrayList<>(plan.checks().size());
+        for (ExecutionPlan.PlannedCheck check : plan.checks()) {
+            checks.add(check.invocation());
+        }
+        return checks;
+    }
+
+    private HealthRegistryImpl getHealthRegistry(HealthType type) {
+        switch (type) {
+            case LIVENESS:
+                return livenessHealthRegistry;
+            case READINESS:
+                return readinessHealthRegistry;
+            case WELLNESS:
+                return wellnessHealthRegistry;
+            default:
+                return startupHealthRegistry;
+        }
+    }
+
+    private void initUnis(List<ExecutionPlan.PlannedCheck> list, Instance<HealthCheck> checks,
+            Instance<AsyncHealthCheck> asyncChecks, EnablementResolution enabled) {
         if (checks != null) {
             for (Instance.Handle<HealthCheck> handle : checks.handles()) {
-                HealthCheck check = handle.get();
-                if (check != null && isHealthCheckEnabled(check)) {
-                    list.add(asyncHealthCheckFactory.callSync(check).chain(response -> {
-                        if (handle.getBean().getScope().equals(Dependent.class)) {
-                            handle.destroy();
-                        }
-                        return Uni.createFrom().item(response);
-                    }));
+                Uni<HealthCheckResponse> uni = this.<HealthCheck> createCheckUni(handle, enabled::isCheckEnabled,
+                        asyncHealthCheckFactory::callSync);
+                if (uni != null) {
+                    // the bean identifies the check across the plans of all health types
+                    list.add(new ExecutionPlan.PlannedCheck(handle.getBean(), uni, isCritical(handle.getBean())));
                 }
             }
         }
 
         if (asyncChecks != null) {
             for (Instance.Handle<AsyncHealthCheck> handle : asyncChecks.handles()) {
-                AsyncHealthCheck asyncCheck = handle.get();
-                if (asyncCheck != null && isHealthCheckEnabled(asyncCheck)) {
-                    list.add(asyncHealthCheckFactory.callAsync(asyncCheck).chain(response -> {
-                        if (handle.getBean().getScope().equals(Dependent.class)) {
-                            handle.destroy();
-                        }
-                        return Uni.createFrom().item(response);
-                    }));
+                Uni<HealthCheckResponse> uni = this.<AsyncHealthCheck> createCheckUni(handle, enabled::isCheckEnabled,
+                        asyncHealthCheckFactory::callAsync);
+                if (uni != null) {
+                    list.add(new ExecutionPlan.PlannedCheck(handle.getBean(), uni, isCritical(handle.getBean())));
                 }
             }
         }
     }
 
-    // TODO this means we cannot have Dependent HealthGroups checks
-    private void initUnis(List<Uni<HealthCheckResponse>> list, Iterable<HealthCheck> checks,
-            Iterable<AsyncHealthCheck> asyncChecks) {
-        if (checks != null) {
-            for (HealthCheck check : checks) {
-                if (check != null && isHealthCheckEnabled(check)) {
-                    list.add(asyncHealthCheckFactory.callSync(check));
-                }
+    /**
+     * Creates the invocation of the health check bean.
+     *
+     * @return the invocation, or {@code null} if the check is disabled or its instance is {@code null}
+     */
+    private <T> Uni<HealthCheckResponse> createCheckUni(Instance.Handle<T> handle, Predicate<T> enabled,
+            CheckCall<T> call) {
+        T check = handle.get();
+        boolean dependent = isDependent(handle.getBean());
+        if (check == null || !enabled.test(check)) {
+            if (dependent) {
+                handle.destroy();
             }
+            return null;
         }
 
-        if (asyncChecks != null) {
-            for (AsyncHealthCheck asyncCheck : asyncChecks) {
-                if (asyncCheck != null && isHealthCheckEnabled(asyncCheck)) {
-                    list.add(asyncHealthCheckFactory.callAsync(asyncCheck));
+        if (dependent) {
+            // the resolved instance is only used for the enablement, each invocation creates a new one
+            handle.destroy();
+            return callDependent(handle.getBean(), call);
+        }
+        // the bean identifies the check in the response cache
+        return call.call(check, handle.getBean(), AsyncHealthCheckFactory.InvocationListener.NONE);
+    }
+
+    private static boolean isCritical(Bean<?> bean) {
+        return bean.getBeanClass().isAnnotationPresent(Critical.class);
+    }
+
+    private static boolean isDependent(Bean<?> bean) {
+        return bean.getScope().equals(Dependent.class);
+    }
+
+    /**
+     * Creates a new instance of the {@link Dependent} health check bean for every invocation and destroys it once the
+     * check has returned, unless the instances are pooled. A check that timed out may still be running when the
+     * health report is complete.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Uni<HealthCheckResponse> callDependent(Bean<?> bean, CheckCall<T> call) {
+        Bean<T> dependentBean = (Bean<T>) bean;
+        return Uni.createFrom().deferred(() -> {
+            if (dependentCheckPool.isEnabled()) {
+                return callPooled(dependentBean, call);
+            }
+
+            CreationalContext<T> creationalContext = beanManager.createCreationalContext(dependentBean);
+            T check = dependentBean.create(creationalContext);
+            if (check == null) {
+                // null checks are ignored in the same way as when the execution plan is created
+                creationalContext.release();
+                return Uni.createFrom().nullItem();
+            }
+
+            return call.call(check, bean, succeeded -> dependentBean.destroy(check, creationalContext));
+        });
+    }
+
+    /**
+     * Invokes an idle pooled instance of the {@link Dependent} health check bean, or a new one if there is none, and
+     * returns it to the pool once the check has returned. An instance whose invocation failed, timed out, or was
+     * cancelled may be in an inconsistent state, so it is destroyed instead.
+     */
+    private <T> Uni<HealthCheckResponse> callPooled(Bean<T> bean, CheckCall<T> call) {
+        DependentCheckPool.PooledInstance<T> pooled = dependentCheckPool.acquire(bean);
+        if (pooled == null) {
+            CreationalContext<T> creationalContext = beanManager.createCreationalContext(bean);
+            T check = bean.create(creationalContext);
+            if (check == null) {
+                creationalContext.release();
+                return Uni.createFrom().nullItem();
+            }
+            pooled = dependentCheckPool.create(check, () -> bean.destroy(check, creationalContext));
+        }
+
+        DependentCheckPool.PooledInstance<T> instance = pooled;
+        return call.call(instance.get(), bean, succeeded -> dependentCheckPool.release(bean, instance, succeeded));
+    }
+
+    /**
+     * Returns the index of the health check beans by their health groups, it is resolved on the first health group
+     * request.
+     */
+    private HealthGroupIndex getGroupIndex() {
+        reloadEnablementIfDue();
+        HealthGroupIndex index = groupIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = groupIndex;
+                if (index == null) {
+                    index = createGroupIndex();
+                    groupIndex = index;
                 }
             }
         }
+        return index;
+    }
+
+    private HealthGroupIndex createGroupIndex() {
+        if (allHealthChecks == null || allAsyncHealthChecks == null) {
+            return HealthGroupIndex.EMPTY;
+        }
+
+        EnablementResolution enabled = new EnablementResolution();
+        Map<String, List<Uni<HealthCheckResponse>>> groups = new HashMap<>();
+        List<Uni<HealthCheckResponse>> grouped = new ArrayList<>();
+        List<Uni<HealthCheckResponse>> ungrouped = new ArrayList<>();
+
+        for (Instance.Handle<HealthCheck> handle : allHealthChecks.handles()) {
+            Set<String> groupNames = getHealthGroupNames(handle.getBean());
+            indexCheck(groupNames, this.<HealthCheck> createCheckUni(handle, enabled::isCheckEnabled,
+                    asyncHealthCheckFactory::callSync), groups, grouped, ungrouped);
+        }
+        for (Instance.Handle<AsyncHealthCheck> handle : allAsyncHealthChecks.handles()) {
+            Set<String> groupNames = getHealthGroupNames(handle.getBean());
+            indexCheck(groupNames, this.<AsyncHealthCheck> createCheckUni(handle, enabled::isCheckEnabled,
+                    asyncHealthCheckFactory::callAsync), groups, grouped, ungrouped);
+        }
+
+        enabled.complete(Set.of());
+        groups.replaceAll((groupName, checks) -> List.copyOf(checks));
+        return new HealthGroupIndex(groups, grouped, ungrouped);
+    }
+
+    private static void indexCheck(Set<String> groupNames, Uni<HealthCheckResponse> uni,
+            Map<String, List<Uni<HealthCheckResponse>>> groups, List<Uni<HealthCheckResponse>> grouped,
+            List<Uni<HealthCheckResponse>> ungrouped) {
+        if (uni == null) {
+            return;
+        }
+
+        if (groupNames.isEmpty()) {
+            ungrouped.add(uni);
+        } else {
+            grouped.add(uni);
+            for (String groupName : groupNames) {
+                groups.computeIfAbsent(groupName, name -> new ArrayList<>()).add(uni);
+            }
+        }
     }
 
-    private List<Uni<HealthCheckResponse>> recreateUnis(Instance<HealthCheck> checks, Instance<AsyncHealthCheck> asyncChecks) {
-        List<Uni<HealthCheckResponse>> list = new ArrayList<>();
-        initUnis(list, checks, asyncChecks);
-        return list;
+    private static Set<String> getHealthGroupNames(Bean<?> bean) {
+        Set<String> groupNames = new LinkedHashSet<>();
+        for (Annotation qualifier : bean.getQualifiers()) {
+            if (qualifier instanceof HealthGroup healthGroup) {
+                groupNames.add(healthGroup.value());
+            } else if (qualifier instanceof HealthGroups healthGroups) {
+                for (HealthGroup healthGroup : healthGroups.value()) {
+                    groupNames.add(healthGroup.value());
+                }
+            }
+        }
+        return groupNames;
     }
 
     public void reportHealth(OutputStream out, SmallRyeHealth health) {
-        JsonObject payload = health.getPayload();
         if (health.isDown() && HealthLogging.logger.isInfoEnabled()) {
             // Log reason, as not reported by container orchestrators, yet container may get killed.
-            HealthLogging.logger.healthDownStatus(payload.toString());
+            // The reports of the same checks are only logged when their statuses change or once per window.
+            long suppressed = downLogLimiter.tryLog(health.fingerprint(false), health.fingerprint(true));
+            if (suppressed == 0) {
+                HealthLogging.logger.healthDownStatus(health.getPayload().toString());
+            } else if (suppressed > 0) {
+                HealthLogging.logger.healthDownStatusSuppressed(suppressed, health.getPayload().toString());
+            }
+        } else if (!health.isDown() && !downLogLimiter.isEmpty()) {
+            downLogLimiter.reset(health.fingerprint(false));
         }
 
-        if (healthContentFilters != null) {
-            for (Instance.Handle<HealthContentFilter> handle : healthContentFilters.handles()) {
-                try {
-                    payload = handle.get().filter(payload);
-                } finally {
-                    if (handle.getBean().getScope().equals(Dependent.class)) {
-                        handle.destroy();
-                    }
-                }
-            }
+        try (out) {
+            out.write(serialize(health).bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the strong entity tag of the report that {@link #reportHealth(OutputStream, SmallRyeHealth)} writes
+     * for the given health. HTTP adapters can use it as the {@code ETag} header and answer a matching
+     * {@code If-None-Match} request header with {@code 304 Not Modified}.
+     *
+     * @param health the health to be reported
+     * @return the quoted entity tag of the serialized report
+     */
+    public String getETag(SmallRyeHealth health) {
+        return serialize(health).eTag();
+    }
+
+    /**
+     * Serializes the health report with the content filters. The serialized report is cached in the
+     * {@link SmallRyeHealth} instance, so reporting the same instance again (e.g., a shared or scheduled result)
+     * neither filters nor serializes it again. The filters are expected to depend on the payload only.
+     */
+    private SerializedHealth serialize(SmallRyeHealth health) {
+        HealthContentFilterPipeline pipeline = getFilterPipeline();
+        SerializedHealth serialized = health.serialized;
+        if (serialized != null && serialized.matches(prettyPrint, pipeline)) {
+            return serialized;
         }
 
-        JsonWriterFactory factory = JSON_PROVIDER.createWriterFactory(JSON_CONFIG);
-        JsonWriter writer = factory.createWriter(out);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (pipeline.filtersPayload()) {
+            HealthJsonSerializer.write(out, pipeline.filter(health.getPayload()), prettyPrint, pipeline::decorate);
+        } else if (health.checks != null) {
+            HealthJsonSerializer.write(out, health.getStatus(), health.checks, health.additionalProperties, prettyPrint,
+                    pipeline::decorate);
+        } else {
+            HealthJsonSerializer.write(out, health.getPayload(), prettyPrint, pipeline::decorate);
+        }
+
+        serialized = new SerializedHealth(out.toByteArray(), prettyPrint, pipeline);
+        health.serialized = serialized;
+        return serialized;
+    }
 
-        writer.writeObject(payload);
-        writer.close();
+    /**
+     * Returns the content filter chain, it is resolved on the first report.
+     */
+    private HealthContentFilterPipeline getFilterPipeline() {
+        HealthContentFilterPipeline pipeline = filterPipeline;
+        if (pipeline == null) {
+            synchronized (this) {
+                pipeline = filterPipeline;
+                if (pipeline == null) {
+                    pipeline = HealthContentFilterPipeline.compile(healthContentFilters, healthContentStreamFilters);
+                    filterPipeline = pipeline;
+                }
+            }
+        }
+        return pipeline;
     }
 
     public SmallRyeHealth getHealth() {
@@ -295,6 +642,31 @@ public class SmallRyeHealthReporter {
         return getWellnessAsync().await().atMost(Duration.ofSeconds(timeoutSeconds));
     }
 
+    @Experimental("Status-only health probes")
+    public HealthCheckResponse.Status getStatus() {
+        return getStatusAsync().await().atMost(Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Experimental("Status-only health probes")
+    public HealthCheckResponse.Status getLivenessStatus() {
+        return getLivenessStatusAsync().await().atMost(Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Experimental("Status-only health probes")
+    public HealthCheckResponse.Status getReadinessStatus() {
+        return getReadinessStatusAsync().await().atMost(Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Experimental("Status-only health probes")
+    public HealthCheckResponse.Status getStartupStatus() {
+        return getStartupStatusAsync().await().atMost(Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Experimental("Status-only health probes")
+    public HealthCheckResponse.Status getWellnessStatus() {
+        return getWellnessStatusAsync().await().atMost(Duration.ofSeconds(timeoutSeconds));
+    }
+
     public SmallRyeHealth getHealthGroup(String groupName) {
         return getHealthGroupAsync(groupName).await().atMost(Duration.ofSeconds(timeoutSeconds));
     }
@@ -348,42 +720,79 @@ public class SmallRyeHealthReporter {
         return getHealthAsync(WELLNESS);
     }
 
+    /**
+     * Evaluates the overall health status without building the JSON payload, e.g., for probes that only consider
+     * the HTTP status code of the response. The status is the same as the one of {@link #getHealthAsync()}.
+     */
+    @Experimental("Status-only health probes")
+    public Uni<HealthCheckResponse.Status> getStatusAsync() {
+        return getStatusAsync(LIVENESS, READINESS, WELLNESS, STARTUP);
+    }
+
+    @Experimental("Status-only health probes")
+    public Uni<HealthCheckResponse.Status> getLivenessStatusAsync() {
+        return getStatusAsync(LIVENESS);
+    }
+
+    @Experimental("Status-only health probes")
+    public Uni<HealthCheckResponse.Status> getReadinessStatusAsync() {
+        return getStatusAsync(READINESS);
+    }
+
+    @Experimental("Status-only health probes")
+    public Uni<HealthCheckResponse.Status> getStartupStatusAsync() {
+        return getStatusAsync(STARTUP);
+    }
+
+    @Experimental("Status-only health probes")
+    public Uni<HealthCheckResponse.Status> getWellnessStatusAsync() {
+        return getStatusAsync(WELLNESS);
+    }
+
     @Experimental("Asynchronous Health Check procedures and Health Groups")
     public Uni<SmallRyeHealth> getHealthGroupAsync(String groupName) {
-        List<Uni<HealthCheckResponse>> checks = new ArrayList<>();
-        if (allHealthChecks != null && allAsyncHealthChecks != null) {
+        return coalesce("group:" + groupName, () -> evaluateHealthGroup(groupName));
+    }
+
+    private Uni<SmallRyeHealth> evaluateHealthGroup(String groupName) {
+        return Uni.createFrom().deferred(() -> {
+            HealthGroupIndex index = getGroupIndex();
+            List<Uni<HealthCheckResponse>> checks = new ArrayList<>();
             if (groupName.equals(defaultHealthGroup)) {
-                initUnis(checks, getHealthChecksWithoutHealthGroup(HealthCheck.class),
-                        getHealthChecksWithoutHealthGroup(AsyncHealthCheck.class));
+                checks.addAll(index.ungrouped());
             }
+            checks.addAll(index.group(groupName));
 
-            initUnis(checks, allHealthChecks.select(HealthGroup.Literal.of(groupName)),
-                    allAsyncHealthChecks.select(HealthGroup.Literal.of(groupName)));
-        }
-
-        checks.addAll(((HealthRegistryImpl) HealthRegistries.getHealthGroupRegistry(groupName)).getChecks(healthChecksConfigs));
+            checks.addAll(getGroupRegistryChecks((HealthRegistryImpl) HealthRegistries.getHealthGroupRegistry(groupName)));
 
-        return getHealthResult(checks).map(HealthResult::toSmallRyeHealth);
+            return getHealthResult(checks).map(HealthResult::toSmallRyeHealth);
+        });
     }
 
     @Experimental("Asynchronous Health Check procedures and Health Groups")
     public Uni<SmallRyeHealth> getHealthGroupsAsync() {
-        List<Uni<HealthCheckResponse>> checks = new ArrayList<>();
+        return coalesce("groups", this::evaluateHealthGroups);
+    }
 
-        if (defaultHealthGroup != null) {
-            // all checks are either in some HealthGroup or they are in the default HealthGroup
-            // so we can return all checks
-            initUnis(checks, allHealthChecks, allAsyncHealthChecks);
-        } else {
-            if (beanManager != null) {
-                initUnis(checks, getHealthGroupsChecks(HealthCheck.class), getHealthGroupsChecks(AsyncHealthCheck.class));
+    private Uni<SmallRyeHealth> evaluateHealthGroups() {
+        return Uni.createFrom().deferred(() -> {
+            List<Uni<HealthCheckResponse>> checks = new ArrayList<>();
+
+            HealthGroupIndex index = getGroupIndex();
+            if (defaultHealthGroup != null) {
+                // all checks are either in some HealthGroup or they are in the default HealthGroup
+                // so we can return all checks
+                checks.addAll(index.ungrouped());
+                checks.addAll(index.grouped());
+            } else {
+                checks.addAll(index.grouped());
+
+                HealthRegistries.getHealthGroupRegistries().forEach(
+                        healthRegistry -> checks.addAll(getGroupRegistryChecks((HealthRegistryImpl) healthRegistry)));
             }
 
-            HealthRegistries.getHealthGroupRegistries().forEach(
-                    healthRegistry -> checks.addAll(((HealthRegistryImpl) healthRegistry).getChecks(healthChecksConfigs)));
-        }
-
-        return getHealthResult(checks).map(HealthResult::toSmallRyeHealth);
+            return getHealthResult(checks).map(HealthResult::toSmallRyeHealth);
+        });
     }
 
     public void addHealthCheck(HealthCheck check) {
@@ -418,6 +827,7 @@ public class SmallRyeHealthReporter {
             throw new IllegalArgumentException("Timeout cannot be negative.");
         }
         this.timeoutSeconds = timeoutSeconds;
+        asyncHealthCheckFactory.setProbeTimeout(Duration.ofSeconds(timeoutSeconds));
     }
 
     public void setAdditionalProperties(Map<String, String> additionalProperties) {
@@ -425,170 +835,511 @@ public class SmallRyeHealthReporter {
         this.additionalProperties = new ConcurrentHashMap<>(additionalProperties);
     }
 
+    public void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+    }
+
+    public void setSingleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    public void setScheduledEvaluationInterval(Duration scheduledEvaluationInterval) {
+        Objects.requireNonNull(scheduledEvaluationInterval);
+        stopScheduledEvaluation();
+        this.scheduledEvaluationInterval = schedulableInterval(scheduledEvaluationInterval);
+    }
+
+    /**
+     * The evaluations are scheduled with a millisecond precision, so a positive interval shorter than one millisecond
+     * is rounded up to one millisecond.
+     */
+    private static Duration schedulableInterval(Duration interval) {
+        if (!interval.isZero() && !interval.isNegative() && interval.compareTo(Duration.ofMillis(1)) < 0) {
+            return Duration.ofMillis(1);
+        }
+        return interval;
+    }
+
+    public void setAsyncEvents(boolean asyncEvents) {
+        this.asyncEvents = asyncEvents;
+    }
+
+    public void setDependentChecksPoolSize(int dependentChecksPoolSize) {
+        dependentCheckPool.setMaxSize(dependentChecksPoolSize);
+        this.dependentChecksPoolSize = dependentChecksPoolSize;
+    }
+
+    public void setDependentChecksPoolMaxAge(Duration dependentChecksPoolMaxAge) {
+        Objects.requireNonNull(dependentChecksPoolMaxAge);
+        dependentCheckPool.setMaxAge(dependentChecksPoolMaxAge);
+        this.dependentChecksPoolMaxAge = dependentChecksPoolMaxAge;
+    }
+
     public void setHealthChecksConfigs(Map<String, Boolean> healthChecksConfigs) {
         Objects.requireNonNull(healthChecksConfigs);
         this.healthChecksConfigs = new ConcurrentHashMap<>(healthChecksConfigs);
-        checksInitialized = false;
+        applyEnablement(HealthCheckEnablement.resolve(enablement.get().checkNames(), this.healthChecksConfigs));
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> List<T> getHealthGroupsChecks(Class<T> checkClass) {
-        Iterator<Bean<?>> iterator = beanManager.getBeans(checkClass, Any.Literal.INSTANCE).iterator();
+    public void setStartupLatch(boolean startupLatch) {
+        this.startupLatch = startupLatch;
+        resetStartupLatch();
+    }
+
+    /**
+     * Opens the startup latch, so the startup checks are invoked again until they report UP (e.g., after the
+     * application was restored from a checkpoint or redeployed).
+     */
+    public void resetStartupLatch() {
+        latchedStartup.set(new StartupLatch(null, null));
+    }
+
+    public void setLivenessShortCircuit(boolean livenessShortCircuit) {
+        this.livenessShortCircuit = livenessShortCircuit;
+    }
+
+    public void setLogDeduplicationWindow(Duration logDeduplicationWindow) {
+        Objects.requireNonNull(logDeduplicationWindow);
+        downLogLimiter.setWindow(logDeduplicationWindow);
+        asyncHealthCheckFactory.setLogDeduplicationWindow(logDeduplicationWindow);
+        this.logDeduplicationWindow = logDeduplicationWindow;
+    }
+
+    public void setEnablementReloadInterval(Duration enablementReloadInterval) {
+        Objects.requireNonNull(enablementReloadInterval);
+        this.enablementReloadInterval = enablementReloadInterval;
+    }
 
-        List<T> groupHealthChecks = new ArrayList<>();
+    private Uni<SmallRyeHealth> getHealthAsync(HealthType... types) {
+        boolean startupOnly = types.length == 1 && types[0] == STARTUP;
+        if (startupOnly) {
+            SmallRyeHealth latched = latchedStartup.get().health();
+            if (latched != null) {
+                return Uni.createFrom().item(latched);
+            }
+        }
 
-        while (iterator.hasNext()) {
-            Bean<?> bean = iterator.next();
-            if (bean.getQualifiers().stream().anyMatch(annotation -> annotation.annotationType().equals(HealthGroup.class))) {
-                groupHealthChecks.add(
-                        (T) beanManager.getReference(bean, bean.getBeanClass(), beanManager.createCreationalContext(bean)));
+        if (!scheduledEvaluationInterval.isZero() && !scheduledEvaluationInterval.isNegative()) {
+            // read before starting the background evaluation, so that the first request is always evaluated directly
+            HealthSnapshot currentSnapshot = snapshot;
+            startScheduledEvaluation();
+            if (currentSnapshot != null) {
+                return Uni.createFrom().item(types.length == 1 ? currentSnapshot.types().get(types[0])
+                        : currentSnapshot.health());
             }
         }
 
-        return groupHealthChecks;
+        Uni<SmallRyeHealth> health = coalesce(List.of(types), () -> evaluateHealth(types));
+        return startupOnly ? health.invoke(this::latchStartupReport) : health;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> List<T> getHealthChecksWithoutHealthGroup(Class<T> checkClass) {
-        Iterator<Bean<?>> iterator = beanManager.getBeans(checkClass, Any.Literal.INSTANCE).iterator();
+    /**
+     * Keeps the startup report once the startup checks are latched, so the subsequent startup requests are
+     * answered with the same report serialized in advance.
+     */
+    private void latchStartupReport(SmallRyeHealth health) {
+        StartupLatch latch = latchedStartup.get();
+        if (latch.result() != null && latch.health() == null && health.getStatus() == UP) {
+            serialize(health);
+            latchedStartup.compareAndSet(latch, new StartupLatch(latch.result(), health));
+        }
+    }
 
-        List<T> healthChecks = new ArrayList<>();
+    /**
+     * Latches the result of the startup checks once they all report UP, the checks are then no longer invoked.
+     * The latch is only closed if it wasn't reset since the evaluation started.
+     */
+    private void latchStartupResult(StartupLatch latch, HealthResult startupResult) {
+        if (startupResult.status == UP && !startupResult.checks.isEmpty()) {
+            latchedStartup.compareAndSet(latch, new StartupLatch(startupResult, null));
+        }
+    }
 
-        while (iterator.hasNext()) {
-            Bean<?> bean = iterator.next();
-            if (bean.getQualifiers().stream().noneMatch(annotation -> annotation.annotationType().equals(HealthGroup.class))) {
-                healthChecks.add(
-                        (T) beanManager.getReference(bean, bean.getBeanClass(), beanManager.createCreationalContext(bean)));
-            }
+    /**
+     * In the single-flight mode, concurrent requests with the same key subscribe to one in-flight evaluation
+     * and all receive its result instead of invoking every health check again.
+     */
+    private Uni<SmallRyeHealth> coalesce(Object key, Supplier<Uni<SmallRyeHealth>> evaluation) {
+        Supplier<Uni<SmallRyeHealth>> probe = () -> asyncHealthCheckFactory.withProbeDeadline(evaluation.get());
+        if (!singleFlight) {
+            return probe.get();
         }
 
-        return healthChecks;
+        return inFlightEvaluations.execute(key, probe);
     }
 
-    private Uni<SmallRyeHealth> getHealthAsync(HealthType... types) {
-        Map<HealthType, Uni<HealthResult>> healthResults = new EnumMap<>(HealthType.class);
+    private Uni<HealthCheckResponse.Status> getStatusAsync(HealthType... types) {
+        if (types.length == 1 && types[0] == STARTUP) {
+            SmallRyeHealth latched = latchedStartup.get().health();
+            if (latched != null) {
+                return Uni.createFrom().item(latched.getStatus());
+            }
+        }
 
-        for (HealthType type : types) {
-            switch (type) {
-                case LIVENESS:
-                    healthResults.put(LIVENESS, getHealthResult(recreateUnis(livenessChecks, asyncLivenessChecks),
-                            livenessHealthRegistry.getChecks(healthChecksConfigs)));
-                    break;
-                case READINESS:
-                    healthResults.put(READINESS, getHealthResult(recreateUnis(readinessChecks, asyncReadinessChecks),
-                            readinessHealthRegistry.getChecks(healthChecksConfigs)));
-                    break;
-                case WELLNESS:
-                    healthResults.put(WELLNESS, getHealthResult(recreateUnis(wellnessChecks, asyncWellnessChecks),
-                            wellnessHealthRegistry.getChecks(healthChecksConfigs)));
-                    break;
-                case STARTUP:
-                    healthResults.put(STARTUP, getHealthResult(recreateUnis(startupChecks, asyncStartupChecks),
-                            startupHealthRegistry.getChecks(healthChecksConfigs)));
-                    break;
+        if (!scheduledEvaluationInterval.isZero() && !scheduledEvaluationInterval.isNegative()) {
+            // read before starting the background evaluation, so that the first request is always evaluated directly
+            HealthSnapshot currentSnapshot = snapshot;
+            startScheduledEvaluation();
+            if (currentSnapshot != null) {
+                return Uni.createFrom().item(types.length == 1 ? currentSnapshot.types().get(types[0]).getStatus()
+                        : currentSnapshot.health().getStatus());
             }
         }
 
-        return processHealthResults(healthResults);
+        Supplier<Uni<HealthCheckResponse.Status>> evaluation = () -> asyncHealthCheckFactory.withProbeDeadline(
+                livenessShortCircuit && types.length == 1 && types[0] == LIVENESS ? evaluateLivenessShortCircuit()
+                        : evaluateStatus(types));
+        if (!singleFlight) {
+            return evaluation.get();
+        }
+        return inFlightStatusEvaluations.execute(List.of(types), evaluation);
+    }
+
+    /**
+     * Evaluates the liveness status by invoking the checks in the order of {@link CheckStatistics#order} and
+     * completes with DOWN as soon as a {@link Critical} check reports DOWN. The pending invocations are then
+     * cancelled and the checks not invoked yet are skipped. The status change events are not fired because the
+     * evaluation may be incomplete.
+     */
+    private Uni<HealthCheckResponse.Status> evaluateLivenessShortCircuit() {
+        return Uni.createFrom().deferred(() -> {
+            List<ExecutionPlan.PlannedCheck> checks = new ArrayList<>(getExecutionPlan(LIVENESS).checks());
+            for (Uni<HealthCheckResponse> additionalCheck : List.copyOf(additionalChecks.values())) {
+                checks.add(new ExecutionPlan.PlannedCheck(null, additionalCheck, false));
+            }
+            if (checks.isEmpty()) {
+                return Uni.createFrom().item(emptyChecksOutcome);
+            }
+            checks.sort(checkStatistics.order);
+
+            return Uni.createFrom().<HealthCheckResponse.Status> emitter(emitter -> {
+                Queue<Cancellable> invocations = new ConcurrentLinkedQueue<>();
+                AtomicBoolean completed = new AtomicBoolean();
+                AtomicInteger pending = new AtomicInteger(checks.size());
+                // null until some check responds
+                AtomicReference<HealthCheckResponse.Status> status = new AtomicReference<>();
+                Runnable cancelInvocations = () -> {
+                    Cancellable invocation;
+                    while ((invocation = invocations.poll()) != null) {
+                        invocation.cancel();
+                    }
+                };
+                emitter.onTermination(cancelInvocations);
+
+                for (ExecutionPlan.PlannedCheck check : checks) {
+                    if (completed.get()) {
+                        break;
+                    }
+                    long start = System.nanoTime();
+                    // the context carries the deadline of the probe
+                    invocations.add(check.invocation().subscribe().with(emitter.context(), response -> {
+                        boolean down = response != null && response.getStatus() == DOWN;
+                        checkStatistics.record(check.key(), System.nanoTime() - start, down);
+                        if (response != null) {
+                            status.accumulateAndGet(response.getStatus(),
+                                    (current, update) -> current == DOWN || update == DOWN ? DOWN : UP);
+                        }
+
+                        if (down && check.critical()) {
+                            if (completed.compareAndSet(false, true)) {
+                                emitter.complete(DOWN);
+                            }
+                        } else if (pending.decrementAndGet() == 0 && completed.compareAndSet(false, true)) {
+                            emitter.complete(status.get() == null ? emptyChecksOutcome : status.get());
+                        }
+                    }, failure -> {
+                        if (completed.compareAndSet(false, true)) {
+                            emitter.fail(failure);
+                        }
+                    }));
+                }
+
+                if (completed.get()) {
+                    // an invocation added after the evaluation completed
+                    cancelInvocations.run();
+                }
+            });
+        });
+    }
+
+    private Uni<HealthCheckResponse.Status> evaluateStatus(HealthType... types) {
+        return Uni.createFrom().deferred(() -> {
+            long sequence = statusTracker.startEvaluation();
+            return joinHealthResults(types)
+                    .map(resultList -> aggregateHealthStatus(resultList, sequence));
+        });
     }
 
-    private Uni<HealthResult> emptyHealthResult() {
-        return Uni.createFrom().item(new HealthResult(emptyChecksOutcome));
+    private Uni<SmallRyeHealth> evaluateHealth(HealthType... types) {
+        return Uni.createFrom().deferred(() -> {
+            long sequence = statusTracker.startEvaluation();
+            return joinHealthResults(types)
+                    .map(resultList -> aggregateHealthResults(resultList, sequence));
+        });
+    }
+
+    private HealthResult emptyHealthResult() {
+        return new HealthResult(emptyChecksOutcome);
     }
 
-    private Uni<SmallRyeHealth> processHealthResults(Map<HealthType, Uni<HealthResult>> healthResults) {
-        Uni<HealthResult> additionalHealthResult = emptyHealthResult();
-        if (!additionalChecks.isEmpty()) {
-            additionalHealthResult = getHealthResult(additionalChecks.values());
+    /**
+     * Invokes the checks of the given health types together with the additional checks and returns the results of
+     * the liveness, readiness, wellness, startup, and additional checks in this order. A check included in several
+     * health types (e.g., a bean with both {@code @Liveness} and {@code @Readiness}) is invoked once and its response
+     * is shared by all of them.
+     */
+    private Uni<List<HealthResult>> joinHealthResults(HealthType... types) {
+        List<Uni<HealthCheckResponse>> invocations = new ArrayList<>();
+        Map<Object, Integer> invocationIndexes = new HashMap<>();
+        Map<HealthType, int[]> typeIndexes = new EnumMap<>(HealthType.class);
+        StartupLatch latch = latchedStartup.get();
+        HealthResult latchedStartupResult = startupLatch ? latch.result() : null;
+
+        for (HealthType type : types) {
+            if (type == STARTUP && latchedStartupResult != null) {
+                // the startup checks already reported UP
+                continue;
+            }
+            List<ExecutionPlan.PlannedCheck> checks = getExecutionPlan(type).checks();
+            int[] indexes = new int[checks.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                ExecutionPlan.PlannedCheck check = checks.get(i);
+                Integer index = check.key() != null ? invocationIndexes.putIfAbsent(check.key(), invocations.size())
+                        : null;
+                if (index == null) {
+                    index = invocations.size();
+                    invocations.add(check.invocation());
+                }
+                indexes[i] = index;
+            }
+            typeIndexes.put(type, indexes);
+        }
+
+        List<Uni<HealthCheckResponse>> additional = List.copyOf(additionalChecks.values());
+        int[] additionalIndexes = new int[additional.size()];
+        for (int i = 0; i < additionalIndexes.length; i++) {
+            additionalIndexes[i] = invocations.size();
+            invocations.add(additional.get(i));
+        }
+
+        if (invocations.isEmpty()) {
+            return Uni.createFrom().item(List.of(emptyHealthResult(), emptyHealthResult(), emptyHealthResult(),
+                    latchedStartupResult != null ? latchedStartupResult : emptyHealthResult(), emptyHealthResult()));
         }
 
         // Need to use Uni.join() because Uni.combine() has a performance issue - https://github.com/smallrye/smallrye-mutiny/issues/1993
-        return Uni.join().all(
-                healthResults.getOrDefault(LIVENESS, emptyHealthResult()),
-                healthResults.getOrDefault(READINESS, emptyHealthResult()),
-                healthResults.getOrDefault(WELLNESS, emptyHealthResult()),
-                healthResults.getOrDefault(STARTUP, emptyHealthResult()),
-                additionalHealthResult)
-                .andCollectFailures()
-                .map(resultList -> {
-                    HealthResult result = new HealthResult();
-
-                    livenessStatus = handleHealthResult(resultList.get(0), LIVENESS, livenessEvent, livenessStatus, result);
-                    readinessStatus = handleHealthResult(resultList.get(1), READINESS, readinessEvent, readinessStatus, result);
-                    wellnessStatus = handleHealthResult(resultList.get(2), WELLNESS, wellnessEvent, wellnessStatus, result);
-                    startupStatus = handleHealthResult(resultList.get(3), STARTUP, startupEvent, startupStatus, result);
-
-                    HealthResult additionalChecks = resultList.get(4);
-
-                    if (!additionalChecks.checks.isEmpty()) {
-                        result.checks.addAll(additionalChecks.checks);
-
-                        if (result.status == UP && additionalChecks.status == DOWN) {
-                            result.status = DOWN;
+        return Uni.join().all(invocations).andCollectFailures()
+                .map(responses -> {
+                    HealthResult startupResult = latchedStartupResult;
+                    if (startupResult == null) {
+                        startupResult = createHealthResult(responses, typeIndexes.get(STARTUP));
+                        if (startupLatch && typeIndexes.containsKey(STARTUP)) {
+                            latchStartupResult(latch, startupResult);
                         }
                     }
 
-                    SmallRyeHealth smallRyeHealth = result.toSmallRyeHealth();
-                    fireGlobalHealthStatusChangeIfNeeded(smallRyeHealth,
-                            List.of(livenessStatus, readinessStatus, startupStatus, wellnessStatus));
-
-                    return smallRyeHealth;
+                    return List.of(
+                            createHealthResult(responses, typeIndexes.get(LIVENESS)),
+                            createHealthResult(responses, typeIndexes.get(READINESS)),
+                            createHealthResult(responses, typeIndexes.get(WELLNESS)),
+                            startupResult,
+                            createHealthResult(responses, additionalIndexes));
                 });
     }
 
-    private HealthCheckResponse.Status handleHealthResult(HealthResult partialResult, HealthType healthType,
-            Event<SmallRyeHealthStatusChangeEvent> event,
-            HealthCheckResponse.Status currentStatus, HealthResult result) {
-        if (!partialResult.checks.isEmpty()) {
-            result.checks.addAll(partialResult.checks);
+    private HealthResult createHealthResult(List<HealthCheckResponse> responses, int[] indexes) {
+        if (indexes == null || indexes.length == 0) {
+            return emptyHealthResult();
+        }
 
-            if (result.status == UP && partialResult.status == DOWN) {
+        HealthResult healthResult = new HealthResult();
+        for (int index : indexes) {
+            HealthCheckResponse response = responses.get(index);
+            if (response == null) {
+                // null check instances are ignored
+                continue;
+            }
+            if (healthResult.status == UP && response.getStatus() == DOWN) {
+                healthResult.status = DOWN;
+            }
+            healthResult.checks.add(response);
+        }
+
+        return healthResult.checks.isEmpty() ? emptyHealthResult() : healthResult;
+    }
+
+    private SmallRyeHealth aggregateHealthResults(List<HealthResult> resultList, long sequence) {
+        SmallRyeHealth smallRyeHealth = combineTypeResults(resultList, sequence).toSmallRyeHealth();
+        fireGlobalHealthStatusChangeIfNeeded(() -> smallRyeHealth, sequence);
+
+        return smallRyeHealth;
+    }
+
+    /**
+     * Aggregates the status of the results without building the JSON payload, it is only built if an observer is
+     * notified about a changed status.
+     */
+    private HealthCheckResponse.Status aggregateHealthStatus(List<HealthResult> resultList, long sequence) {
+        HealthResult result = combineTypeResults(resultList, sequence);
+        fireGlobalHealthStatusChangeIfNeeded(result::toSmallRyeHealth, sequence);
+
+        return result.reportedStatus();
+    }
+
+    private HealthResult combineTypeResults(List<HealthResult> resultList, long sequence) {
+        HealthResult result = new HealthResult();
+
+        handleHealthResult(resultList.get(0), LIVENESS, livenessEvent, sequence, result);
+        handleHealthResult(resultList.get(1), READINESS, readinessEvent, sequence, result);
+        handleHealthResult(resultList.get(2), WELLNESS, wellnessEvent, sequence, result);
+        handleHealthResult(resultList.get(3), STARTUP, startupEvent, sequence, result);
+
+        HealthResult additionalChecks = resultList.get(4);
+
+        if (!additionalChecks.checks.isEmpty()) {
+            result.checks.addAll(additionalChecks.checks);
+
+            if (result.status == UP && additionalChecks.status == DOWN) {
                 result.status = DOWN;
             }
+        }
 
-            return fireEventIfStatusChanged(event, healthType, currentStatus, partialResult);
+        return result;
+    }
+
+    private synchronized void startScheduledEvaluation() {
+        if (scheduler != null || shutdown) {
+            return;
         }
-        return currentStatus;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-health-scheduled-evaluation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = scheduledEvaluationInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::evaluateSnapshot, 0, intervalMillis, TimeUnit.MILLISECONDS);
     }
 
-    private HealthCheckResponse.Status fireEventIfStatusChanged(Event<SmallRyeHealthStatusChangeEvent> event,
-            HealthType healthType,
-            HealthCheckResponse.Status oldStatus, HealthResult result) {
-        HealthCheckResponse.Status newStatus = result.status;
-        if (event == null) {
-            return newStatus;
+    /**
+     * Runs all liveness, readiness, wellness, and startup checks once and publishes the results as a new snapshot
+     * served by the subsequent requests.
+     */
+    private void evaluateSnapshot() {
+        try {
+            long sequence = statusTracker.startEvaluation();
+            List<HealthResult> resultList = asyncHealthCheckFactory
+                    .withProbeDeadline(joinHealthResults(LIVENESS, READINESS, WELLNESS, STARTUP))
+                    .await().atMost(Duration.ofSeconds(timeoutSeconds));
+
+            Map<HealthType, SmallRyeHealth> types = new EnumMap<>(HealthType.class);
+            HealthResult additionalResult = resultList.get(4);
+            types.put(LIVENESS, combineHealthResults(resultList.get(0), additionalResult).toSmallRyeHealth());
+            types.put(READINESS, combineHealthResults(resultList.get(1), additionalResult).toSmallRyeHealth());
+            types.put(WELLNESS, combineHealthResults(resultList.get(2), additionalResult).toSmallRyeHealth());
+            types.put(STARTUP, combineHealthResults(resultList.get(3), additionalResult).toSmallRyeHealth());
+            latchStartupReport(types.get(STARTUP));
+
+            snapshot = new HealthSnapshot(aggregateHealthResults(resultList, sequence), Collections.unmodifiableMap(types));
+        } catch (Exception e) {
+            HealthLogging.logger.scheduledEvaluationError(e);
         }
-        if (oldStatus != newStatus) {
-            try {
-                event.fire(new SmallRyeHealthStatusChangeEvent(healthType, result.toSmallRyeHealth()));
-            } catch (ObserverException e) {
-                HealthLogging.logger.healthChangeObserverError(e);
+    }
+
+    private HealthResult combineHealthResults(HealthResult... partialResults) {
+        HealthResult result = new HealthResult();
+
+        for (HealthResult partialResult : partialResults) {
+            if (!partialResult.checks.isEmpty()) {
+                result.checks.addAll(partialResult.checks);
+
+                if (partialResult.status == DOWN) {
+                    result.status = DOWN;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stops the background evaluation of health checks if it is running and the delivery of the status change events,
+     * and destroys the pooled instances of the {@link Dependent} health checks and the content filters.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        shutdown = true;
+        stopScheduledEvaluation();
+        resetStartupLatch();
+        dependentCheckPool.clear();
+        eventDispatcher.shutdown();
+        if (filterPipeline != null) {
+            filterPipeline.destroy();
+            filterPipeline = null;
+        }
+    }
+
+    private synchronized void stopScheduledEvaluation() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        snapshot = null;
+    }
+
+    private void handleHealthResult(HealthResult partialResult, HealthType healthType,
+            Event<SmallRyeHealthStatusChangeEvent> event, long sequence, HealthResult result) {
+        if (!partialResult.checks.isEmpty()) {
+            result.checks.addAll(partialResult.checks);
+
+            if (result.status == UP && partialResult.status == DOWN) {
+                result.status = DOWN;
             }
+
+            fireEventIfStatusChanged(event, healthType, sequence, partialResult);
         }
+    }
 
-        return newStatus;
+    private void fireEventIfStatusChanged(Event<SmallRyeHealthStatusChangeEvent> event, HealthType healthType,
+            long sequence, HealthResult result) {
+        if (statusTracker.transition(healthType, sequence, result.status) && event != null) {
+            fireEvent(event, new SmallRyeHealthStatusChangeEvent(healthType, result.toSmallRyeHealth()));
+        }
     }
 
-    private void fireGlobalHealthStatusChangeIfNeeded(SmallRyeHealth smallRyeHealth,
-            List<HealthCheckResponse.Status> healthStatuses) {
+    private void fireGlobalHealthStatusChangeIfNeeded(Supplier<SmallRyeHealth> smallRyeHealth, long sequence) {
         if (healthEvent == null) {
             return;
         }
 
-        HealthCheckResponse.Status newStatus = UP;
-        if (healthStatuses.contains(DOWN)) {
-            newStatus = DOWN;
+        HealthCheckResponse.Status newStatus = statusTracker.combinedStatus(HEALTH_TYPES);
+        if (statusTracker.transition(OVERALL_HEALTH, sequence, newStatus)) {
+            fireEvent(healthEvent, new SmallRyeHealthStatusChangeEvent(smallRyeHealth.get()));
         }
+    }
 
-        if (healthStatus != newStatus) {
-            healthStatus = newStatus;
+    /**
+     * Notifies the observers of the event. In the asynchronous mode, the observers are notified on the event
+     * dispatcher thread and the health evaluation doesn't wait for them.
+     */
+    private void fireEvent(Event<SmallRyeHealthStatusChangeEvent> event, SmallRyeHealthStatusChangeEvent statusChangeEvent) {
+        if (!asyncEvents) {
             try {
-                healthEvent.fire(new SmallRyeHealthStatusChangeEvent(smallRyeHealth));
+                event.fire(statusChangeEvent);
             } catch (ObserverException e) {
                 HealthLogging.logger.healthChangeObserverError(e);
             }
+            return;
         }
 
+        eventDispatcher.dispatch(event, () -> {
+            try {
+                event.fire(statusChangeEvent);
+            } catch (RuntimeException e) {
+                // there is no caller to propagate the failure to
+                HealthLogging.logger.healthChangeObserverError(e);
+            }
+        });
     }
 
     @SafeVarargs
@@ -602,7 +1353,7 @@ public class SmallRyeHealthReporter {
         }
 
         if (healthCheckUnis.isEmpty()) {
-            return emptyHealthResult();
+            return Uni.createFrom().item(emptyHealthResult());
         }
 
         // Need to use Uni.join() because Uni.combine() has a performance issue - https://github.com/smallrye/smallrye-mutiny/issues/1993
@@ -611,6 +1362,10 @@ public class SmallRyeHealthReporter {
                     HealthResult healthResult = new HealthResult();
 
                     for (HealthCheckResponse response : healthCheckResponses) {
+                        if (response == null) {
+                            // null check instances are ignored
+                            continue;
+                        }
                         if (healthResult.status == UP && response.getStatus() == DOWN) {
                             healthResult.status = DOWN;
                         }
@@ -622,94 +1377,122 @@ public class SmallRyeHealthReporter {
                 });
     }
 
-    private boolean isHealthCheckEnabled(HealthCheck healthCheck) {
-        return isEnabled(healthCheck.getClass().getName()) && isEnabled(healthCheck.getClass().getSuperclass().getName());
-    }
+    /**
+     * Resolves the enablement of the checks of one execution plan against the current enablement table. The checks
+     * missing from the table are looked up once and added to the table together when the plan is complete, so that
+     * the table is copied once per plan rather than once per check.
+     */
+    private final class EnablementResolution implements Predicate<String> {
 
-    private boolean isHealthCheckEnabled(AsyncHealthCheck asyncHealthCheck) {
-        return isEnabled(asyncHealthCheck.getClass().getName())
-                && isEnabled(asyncHealthCheck.getClass().getSuperclass().getName());
-    }
+        private final HealthCheckEnablement table = enablement.get();
+        private final Map<String, Boolean> resolved = new HashMap<>();
 
-    private boolean isEnabled(String checkClassName) {
-        return healthChecksConfigs.computeIfAbsent(checkClassName, s -> {
-            try {
-                return ConfigProvider.getConfig()
-                        .getOptionalValue("io.smallrye.health.check." + checkClassName + ".enabled", Boolean.class)
-                        .orElse(true);
-            } catch (IllegalStateException illegalStateException) {
-                // OK, no config provider was found, use default values
+        @Override
+        public boolean test(String checkName) {
+            Boolean enabled = table.isEnabled(checkName);
+            if (enabled == null) {
+                enabled = resolved.computeIfAbsent(checkName,
+                        name -> HealthCheckEnablement.lookup(name, healthChecksConfigs));
             }
+            return enabled;
+        }
 
-            return true;
-        });
+        boolean isCheckEnabled(Object check) {
+            return test(check.getClass().getName()) && test(check.getClass().getSuperclass().getName());
+        }
 
+        /**
+         * @param leftIds the registry IDs to drop from the table because they left their registry
+         */
+        void complete(Set<String> leftIds) {
+            if (!resolved.isEmpty() || !leftIds.isEmpty()) {
+                enablement.updateAndGet(current -> current.withAll(resolved).withoutAll(leftIds));
+            }
+        }
     }
 
-    private final class HealthResult {
-        HealthCheckResponse.Status status = UP;
-        List<HealthCheckResponse> checks = new ArrayList<>();
-
-        public HealthResult() {
+    /**
+     * Resolves the enablement of the health checks again from the configuration once the reload interval elapses.
+     * The checks are only resolved again if the enablement of some check changed.
+     */
+    private void reloadEnablementIfDue() {
+        if (enablementReloadInterval.isZero() || enablementReloadInterval.isNegative()) {
+            return;
         }
 
-        public HealthResult(HealthCheckResponse.Status status) {
-            this.status = status;
+        long now = System.nanoTime();
+        long nextReload = nextEnablementReload.get();
+        if (now - nextReload < 0
+                || !nextEnablementReload.compareAndSet(nextReload, now + enablementReloadInterval.toNanos())) {
+            return;
         }
 
-        public SmallRyeHealth toSmallRyeHealth() {
-            return createSmallRyeHealth();
+        HealthCheckEnablement current = enablement.get();
+        HealthCheckEnablement reloaded = HealthCheckEnablement.resolve(current.checkNames(), healthChecksConfigs);
+        if (!current.agreesWith(reloaded)) {
+            applyEnablement(reloaded);
         }
+    }
 
-        private SmallRyeHealth createSmallRyeHealth() {
-            JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
-            JsonArray checkResults = createChecksJsonArray();
-
-            builder.add("status", checkResults.isEmpty() ? emptyChecksOutcome.toString() : status.toString());
-            builder.add("checks", checkResults);
+    private synchronized void applyEnablement(HealthCheckEnablement newEnablement) {
+        // the plans of the health types are replaced by initChecks, the IDs that left the group registries are
+        // dropped here since those plans are discarded
+        Set<String> leftIds = new HashSet<>();
+        for (ExecutionPlan plan : groupRegistryPlans.values()) {
+            leftIds.addAll(plan.registrySnapshot().idsMissingFrom(plan.registry().getSnapshot()));
+        }
+        groupRegistryPlans.clear();
+        enablement.set(newEnablement.withoutAll(leftIds));
+        checksInitialized = false;
+        groupIndex = null;
+    }
 
-            if (!additionalProperties.isEmpty()) {
-                additionalProperties.forEach(builder::add);
-            }
+    /**
+     * Immutable results of the latest scheduled evaluation.
+     */
+    record HealthSnapshot(SmallRyeHealth health, Map<HealthType, SmallRyeHealth> types) {
+    }
 
-            return new SmallRyeHealth(builder.build());
-        }
+    /**
+     * Invokes a health check instance with the {@link AsyncHealthCheckFactory}.
+     */
+    @FunctionalInterface
+    private interface CheckCall<T> {
+        Uni<HealthCheckResponse> call(T check, Object key, AsyncHealthCheckFactory.InvocationListener listener);
+    }
 
-        private JsonArray createChecksJsonArray() {
-            JsonArrayBuilder results = JSON_PROVIDER.createArrayBuilder();
+    /**
+     * @param result the result of the startup checks, {@code null} while the latch is open
+     * @param health the startup report, {@code null} until it is evaluated after the startup checks were latched
+     */
+    private record StartupLatch(HealthResult result, SmallRyeHealth health) {
+    }
 
-            for (HealthCheckResponse response : checks) {
-                handleResponse(response, results);
-            }
+    private final class HealthResult {
+        HealthCheckResponse.Status status = UP;
+        List<HealthCheckResponse> checks = new ArrayList<>();
 
-            return results.build();
+        public HealthResult() {
         }
 
-        private void handleResponse(HealthCheckResponse response, JsonArrayBuilder results) {
-            JsonObject responseJson = jsonObject(response);
-            results.add(responseJson);
+        public HealthResult(HealthCheckResponse.Status status) {
+            this.status = status;
         }
 
-        private JsonObject jsonObject(HealthCheckResponse response) {
-            JsonObjectBuilder builder = JSON_PROVIDER.createObjectBuilder();
-            builder.add("name", response.getName());
-            builder.add("status", response.getStatus().toString());
-            response.getData().ifPresent(d -> {
-                JsonObjectBuilder data = JSON_PROVIDER.createObjectBuilder();
-                for (Map.Entry<String, Object> entry : d.entrySet()) {
-                    Object value = entry.getValue();
-                    if (value instanceof String s) {
-                        data.add(entry.getKey(), s);
-                    } else if (value instanceof Long l) {
-                        data.add(entry.getKey(), l);
-                    } else if (value instanceof Boolean b) {
-                        data.add(entry.getKey(), b);
-                    }
-                }
-                builder.add("data", data.build());
-            });
+        /**
+         * @return the health report, its JSON payload is only built when it is read
+         */
+        public SmallRyeHealth toSmallRyeHealth() {
+            Map<String, String> properties = additionalProperties.isEmpty() ? Map.of()
+                    : Collections.unmodifiableMap(new LinkedHashMap<>(additionalProperties));
+            return new SmallRyeHealth(reportedStatus(), checks, properties);
+        }
 
-            return builder.build();
+        /**
+         * @return the status of the health report, the configured outcome if there are no checks
+         */
+        public HealthCheckResponse.Status reportedStatus() {
+            return checks.isEmpty() ? emptyChecksOutcome : status;
         }
     }
 }
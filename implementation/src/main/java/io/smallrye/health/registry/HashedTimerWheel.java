@@ -0,0 +1,181 @@
+package io.smallrye.health.registry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Hashed timer wheel driving the expiration of many timeouts with one thread. Scheduling a timeout is O(1) and a
+ * timeout whose deadline moves (e.g., a renewed lease) is not rescheduled by the caller: when the wheel reaches it,
+ * it finds the new deadline and moves the timeout to the matching bucket. The thread only runs while there are
+ * timeouts to track. A wheel created with its own clock has no thread and is driven by {@link #advance()} instead, so
+ * that the expirations can be tested without waiting.
+ */
+final class HashedTimerWheel {
+
+    /**
+     * The timeout tracked by the wheel. The deadlines are {@link #nanoTime()} values.
+     */
+    abstract static class Timeout {
+
+        // only accessed by the wheel thread
+        private long remainingRounds;
+
+        abstract long deadline();
+
+        abstract boolean isCancelled();
+
+        /**
+         * @return {@code true} if the timeout expired, {@code false} if its deadline changed concurrently
+         */
+        abstract boolean expire(long deadline);
+    }
+
+    private final long tickNanos;
+    private final List<Queue<Timeout>> buckets;
+    private final int mask;
+    private final String threadName;
+    private final LongSupplier nanoClock;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger timeoutCount = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // the position of a wheel without a thread, guarded by this wheel
+    private long advancedStartNanos;
+    private long advancedTick;
+
+    HashedTimerWheel(long tickDuration, TimeUnit unit, int wheelSize, String threadName) {
+        this(tickDuration, unit, wheelSize, threadName, System::nanoTime);
+    }
+
+    /**
+     * Creates a wheel without a thread whose ticks only pass when {@link #advance()} is called.
+     *
+     * @param nanoClock the current time in nanoseconds
+     */
+    HashedTimerWheel(long tickDuration, TimeUnit unit, int wheelSize, LongSupplier nanoClock) {
+        this(tickDuration, unit, wheelSize, null, nanoClock);
+        this.advancedStartNanos = nanoClock.getAsLong();
+    }
+
+    private HashedTimerWheel(long tickDuration, TimeUnit unit, int wheelSize, String threadName,
+            LongSupplier nanoClock) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("The wheel size must be a power of two");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = wheelSize - 1;
+        this.threadName = threadName;
+        this.nanoClock = nanoClock;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * @return the current time of the clock of this wheel
+     */
+    long nanoTime() {
+        return nanoClock.getAsLong();
+    }
+
+    void schedule(Timeout timeout) {
+        pendingTimeouts.add(timeout);
+        timeoutCount.incrementAndGet();
+        if (threadName != null && running.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::run, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Processes the ticks that passed by the current time of the clock, only used by a wheel without a thread.
+     */
+    synchronized void advance() {
+        long now = nanoClock.getAsLong();
+        while (advancedStartNanos + (advancedTick + 1) * tickNanos - now <= 0) {
+            processTick(advancedStartNanos, advancedTick++);
+        }
+    }
+
+    private void run() {
+        long startNanos = nanoClock.getAsLong();
+        long tick = 0;
+
+        while (true) {
+            if (timeoutCount.get() == 0) {
+                running.set(false);
+                // a timeout scheduled concurrently either sees the wheel stopped and starts a new thread or this
+                // thread sees the timeout and keeps running
+                if (timeoutCount.get() == 0 || !running.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+
+            long sleepNanos = startNanos + (tick + 1) * tickNanos - nanoClock.getAsLong();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            processTick(startNanos, tick);
+            tick++;
+        }
+    }
+
+    private void processTick(long startNanos, long tick) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            place(timeout, startNanos, tick);
+        }
+        expireTimeouts(startNanos, tick);
+    }
+
+    private void expireTimeouts(long startNanos, long tick) {
+        List<Timeout> rescheduled = new ArrayList<>();
+        long now = nanoClock.getAsLong();
+
+        for (Iterator<Timeout> iterator = buckets.get((int) (tick & mask)).iterator(); iterator.hasNext();) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+                timeoutCount.decrementAndGet();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                long deadline = timeout.deadline();
+                if (deadline - now <= 0 && timeout.expire(deadline)) {
+                    timeoutCount.decrementAndGet();
+                } else {
+                    // renewed since it was placed into this bucket
+                    rescheduled.add(timeout);
+                }
+            }
+        }
+
+        for (Timeout timeout : rescheduled) {
+            place(timeout, startNanos, tick + 1);
+        }
+    }
+
+    /**
+     * Places the timeout to the bucket of the tick during which its deadline passes, but not before the given tick.
+     * The bucket of a tick is processed when the tick ends.
+     */
+    private void place(Timeout timeout, long startNanos, long currentTick) {
+        long deadlineTick = Math.max(Math.floorDiv(timeout.deadline() - startNanos, tickNanos), currentTick);
+        timeout.remainingRounds = (deadlineTick - currentTick) / buckets.size();
+        buckets.get((int) (deadlineTick & mask)).add(timeout);
+    }
+}
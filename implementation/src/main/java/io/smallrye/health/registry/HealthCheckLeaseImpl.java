@@ -0,0 +1,189 @@
+package io.smallrye.health.registry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.health.api.HealthCheckContext;
+import io.smallrye.health.api.HealthCheckLease;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Lease of a health check registered in a {@link HealthRegistryImpl}. A renewal only moves the deadline, the
+ * expiration with the {@link ExpirationPolicy#REMOVE} policy is driven by the timer wheel of the registry, shared by
+ * all registries by default.
+ * Independently of the policy, the leased check is reported as DOWN as soon as its deadline passes.
+ */
+final class HealthCheckLeaseImpl extends HashedTimerWheel.Timeout implements HealthCheckLease {
+
+    static final HashedTimerWheel TIMER_WHEEL = new HashedTimerWheel(100, TimeUnit.MILLISECONDS, 512,
+            "smallrye-health-lease-expiration");
+
+    private static final long EXPIRED = Long.MIN_VALUE;
+    private static final long RELEASED = Long.MIN_VALUE + 1;
+
+    private static final String LEASE_EXPIRED = "leaseExpired";
+
+    private final HealthRegistryImpl registry;
+    private final HashedTimerWheel timerWheel;
+    private final String id;
+    private final Duration duration;
+    private final ExpirationPolicy expirationPolicy;
+    private final AtomicLong deadline;
+    private Object leasedCheck;
+
+    private HealthCheckLeaseImpl(HealthRegistryImpl registry, String id, Duration duration,
+            ExpirationPolicy expirationPolicy) {
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Lease duration must be positive");
+        }
+        this.registry = registry;
+        this.timerWheel = registry.leaseTimerWheel;
+        this.id = id;
+        this.duration = duration;
+        this.expirationPolicy = expirationPolicy;
+        this.deadline = new AtomicLong(timerWheel.nanoTime() + duration.toNanos());
+    }
+
+    static HealthCheckLeaseImpl create(HealthRegistryImpl registry, String id, HealthCheck healthCheck, Duration duration,
+            ExpirationPolicy expirationPolicy) {
+        HealthCheckLeaseImpl lease = new HealthCheckLeaseImpl(registry, id, duration, expirationPolicy);
+        lease.leasedCheck = new LeasedHealthCheck(lease, healthCheck);
+        return lease;
+    }
+
+    static HealthCheckLeaseImpl create(HealthRegistryImpl registry, String id, AsyncHealthCheck asyncHealthCheck,
+            Duration duration, ExpirationPolicy expirationPolicy) {
+        HealthCheckLeaseImpl lease = new HealthCheckLeaseImpl(registry, id, duration, expirationPolicy);
+        lease.leasedCheck = new LeasedAsyncHealthCheck(lease, asyncHealthCheck);
+        return lease;
+    }
+
+    /**
+     * @return the check registered in place of the leased one, reporting DOWN once the lease expires
+     */
+    Object leasedCheck() {
+        return leasedCheck;
+    }
+
+    /**
+     * @param check a registered check
+     * @return the name of the check in the failure and timeout responses, the class name of the leased check if the
+     *         check was registered with a lease
+     */
+    static String checkName(Object check) {
+        if (check instanceof LeasedHealthCheck leased) {
+            return leased.delegate.getClass().getName();
+        }
+        if (check instanceof LeasedAsyncHealthCheck leased) {
+            return leased.delegate.getClass().getName();
+        }
+        return check.getClass().getName();
+    }
+
+    void start() {
+        if (expirationPolicy == ExpirationPolicy.REMOVE) {
+            timerWheel.schedule(this);
+        }
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean renew() {
+        while (true) {
+            long current = deadline.get();
+            if (current == EXPIRED || current == RELEASED) {
+                return false;
+            }
+            if (deadline.compareAndSet(current, timerWheel.nanoTime() + duration.toNanos())) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isExpired() {
+        long current = deadline.get();
+        return current == EXPIRED || (current != RELEASED && current - timerWheel.nanoTime() <= 0);
+    }
+
+    @Override
+    public void release() {
+        if (deadline.getAndSet(RELEASED) != RELEASED) {
+            registry.removeLeased(id, leasedCheck);
+        }
+    }
+
+    @Override
+    long deadline() {
+        return deadline.get();
+    }
+
+    @Override
+    boolean isCancelled() {
+        return deadline.get() == RELEASED;
+    }
+
+    @Override
+    boolean expire(long currentDeadline) {
+        if (!deadline.compareAndSet(currentDeadline, EXPIRED)) {
+            return false;
+        }
+        registry.removeLeased(id, leasedCheck);
+        return true;
+    }
+
+    private HealthCheckResponse expiredResponse() {
+        return HealthCheckResponse.named(id).down().withData(LEASE_EXPIRED, true).build();
+    }
+
+    private static final class LeasedHealthCheck implements HealthCheck {
+
+        private final HealthCheckLeaseImpl lease;
+        private final HealthCheck delegate;
+
+        LeasedHealthCheck(HealthCheckLeaseImpl lease, HealthCheck delegate) {
+            this.lease = lease;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            return lease.isExpired() ? lease.expiredResponse() : delegate.call();
+        }
+    }
+
+    private static final class LeasedAsyncHealthCheck implements AsyncHealthCheck {
+
+        private final HealthCheckLeaseImpl lease;
+        private final AsyncHealthCheck delegate;
+
+        LeasedAsyncHealthCheck(HealthCheckLeaseImpl lease, AsyncHealthCheck delegate) {
+            this.lease = lease;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Uni<HealthCheckResponse> call() {
+            return call(HealthCheckContext.unbounded());
+        }
+
+        @Override
+        public Uni<HealthCheckResponse> call(HealthCheckContext context) {
+            return lease.isExpired() ? Uni.createFrom().item(lease.expiredResponse()) : delegate.call(context);
+        }
+    }
+}
@@ -1,67 +1,305 @@
 package io.smallrye.health.registry;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 
 import io.smallrye.health.AsyncHealthCheckFactory;
 import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.health.api.HealthCheckLease;
 import io.smallrye.health.api.HealthRegistry;
 import io.smallrye.mutiny.Uni;
 
+/**
+ * Copy-on-write registry of the programmatically registered health checks. Every modification atomically replaces
+ * the current immutable {@link Snapshot} with a new one carrying the next version, so the readers never lock and
+ * never observe a partially applied modification.
+ */
 public class HealthRegistryImpl implements HealthRegistry {
 
-    Map<String, HealthCheck> checks = new HashMap<>();
-    Map<String, AsyncHealthCheck> asyncChecks = new HashMap<>();
-    private boolean checksChanged = false;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
 
     AsyncHealthCheckFactory asyncHealthCheckFactory = new AsyncHealthCheckFactory();
+    HashedTimerWheel leaseTimerWheel = HealthCheckLeaseImpl.TIMER_WHEEL;
 
     @Override
     public HealthRegistry register(String id, HealthCheck healthCheck) {
-        return register(id, healthCheck, checks);
+        update(current -> current.withChecks(put(current.checks(), id, healthCheck), current.asyncChecks()));
+        return this;
     }
 
     @Override
     public HealthRegistry register(String id, AsyncHealthCheck asyncHealthCheck) {
-        return register(id, asyncHealthCheck, asyncChecks);
-    }
-
-    private <T> HealthRegistry register(String id, T check, Map<String, T> checks) {
-        checks.put(id, check);
-        checksChanged = true;
+        update(current -> current.withChecks(current.checks(), put(current.asyncChecks(), id, asyncHealthCheck)));
         return this;
     }
 
     @Override
     public HealthRegistry remove(String id) {
         try {
-            if (checks.remove(id) == null && asyncChecks.remove(id) == null) {
-                throw new IllegalStateException(String.format("ID '%s' not found", id));
-            }
-            checksChanged = true;
+            update(current -> {
+                if (!current.checks().containsKey(id) && !current.asyncChecks().containsKey(id)) {
+                    throw new IllegalStateException(String.format("ID '%s' not found", id));
+                }
+                return current.withChecks(remove(current.checks(), id), remove(current.asyncChecks(), id));
+            });
             return this;
         } catch (Exception e) {
             throw new IllegalStateException(e);
         }
     }
 
+    @Override
+    public HealthRegistry registerAll(Map<String, HealthCheck> healthChecks) {
+        Objects.requireNonNull(healthChecks);
+        update(current -> current.withChecks(putAll(current.checks(), healthChecks), current.asyncChecks()));
+        return this;
+    }
+
+    @Override
+    public HealthRegistry registerAllAsync(Map<String, AsyncHealthCheck> asyncHealthChecks) {
+        Objects.requireNonNull(asyncHealthChecks);
+        update(current -> current.withChecks(current.checks(), putAll(current.asyncChecks(), asyncHealthChecks)));
+        return this;
+    }
+
+    @Override
+    public HealthRegistry removeAll(Collection<String> ids) {
+        Objects.requireNonNull(ids);
+        update(current -> {
+            NavigableMap<String, HealthCheck> checks = removeAll(current.checks(), ids);
+            NavigableMap<String, AsyncHealthCheck> asyncChecks = removeAll(current.asyncChecks(), ids);
+            return checks == current.checks() && asyncChecks == current.asyncChecks() ? current
+                    : current.withChecks(checks, asyncChecks);
+        });
+        return this;
+    }
+
+    @Override
+    public HealthRegistry removeByPrefix(String prefix) {
+        Objects.requireNonNull(prefix);
+        update(current -> {
+            NavigableMap<String, HealthCheck> checks = removeByPrefix(current.checks(), prefix);
+            NavigableMap<String, AsyncHealthCheck> asyncChecks = removeByPrefix(current.asyncChecks(), prefix);
+            return checks == current.checks() && asyncChecks == current.asyncChecks() ? current
+                    : current.withChecks(checks, asyncChecks);
+        });
+        return this;
+    }
+
+    @Override
+    public HealthCheckLease registerWithLease(String id, HealthCheck healthCheck, Duration leaseDuration,
+            HealthCheckLease.ExpirationPolicy expirationPolicy) {
+        HealthCheckLeaseImpl lease = HealthCheckLeaseImpl.create(this, id, healthCheck, leaseDuration, expirationPolicy);
+        register(id, (HealthCheck) lease.leasedCheck());
+        lease.start();
+        return lease;
+    }
+
+    @Override
+    public HealthCheckLease registerWithLease(String id, AsyncHealthCheck asyncHealthCheck, Duration leaseDuration,
+            HealthCheckLease.ExpirationPolicy expirationPolicy) {
+        HealthCheckLeaseImpl lease = HealthCheckLeaseImpl.create(this, id, asyncHealthCheck, leaseDuration,
+                expirationPolicy);
+        register(id, (AsyncHealthCheck) lease.leasedCheck());
+        lease.start();
+        return lease;
+    }
+
     public Collection<Uni<HealthCheckResponse>> getChecks(Map<String, Boolean> healthChecksConfigs) {
-        var enabledChecks = checks.entrySet().stream()
-                .filter(e -> healthChecksConfigs.getOrDefault(e.getKey(), true))
-                .map(e -> asyncHealthCheckFactory.callSync(e.getValue()));
-        var enabledAsyncChecks = asyncChecks.entrySet().stream()
-                .filter(e -> healthChecksConfigs.getOrDefault(e.getKey(), true))
-                .map(e -> asyncHealthCheckFactory.callAsync(e.getValue()));
-        return Stream.concat(enabledChecks, enabledAsyncChecks).collect(Collectors.toList());
+        return getChecks(id -> healthChecksConfigs.getOrDefault(id, true));
+    }
+
+    /**
+     * @param enabled whether the check registered with the given ID is enabled
+     */
+    public Collection<Uni<HealthCheckResponse>> getChecks(Predicate<String> enabled) {
+        return getChecks(snapshot.get(), enabled);
+    }
+
+    /**
+     * @param current the snapshot of this registry whose checks are returned
+     * @param enabled whether the check registered with the given ID is enabled
+     */
+    public Collection<Uni<HealthCheckResponse>> getChecks(Snapshot current, Predicate<String> enabled) {
+        List<Uni<HealthCheckResponse>> enabledChecks = new ArrayList<>();
+        current.checks().forEach((id, check) -> {
+            if (enabled.test(id)) {
+                enabledChecks.add(asyncHealthCheckFactory.callSync(id, HealthCheckLeaseImpl.checkName(check), check));
+            }
+        });
+        current.asyncChecks().forEach((id, asyncCheck) -> {
+            if (enabled.test(id)) {
+                enabledChecks.add(asyncHealthCheckFactory.callAsync(id, HealthCheckLeaseImpl.checkName(asyncCheck),
+                        asyncCheck));
+            }
+        });
+        return enabledChecks;
     }
 
     public boolean checksChanged() {
-        return checksChanged;
+        return snapshot.get().version() != 0;
+    }
+
+    /**
+     * @return the number of modifications of the registered checks, can be used to detect changes
+     */
+    public long getVersion() {
+        return snapshot.get().version();
+    }
+
+    /**
+     * @return the immutable snapshot of the currently registered checks
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Removes the check registered with the lease unless the ID has been registered again in the meantime.
+     */
+    void removeLeased(String id, Object leasedCheck) {
+        update(current -> {
+            if (current.checks().get(id) == leasedCheck) {
+                return current.withChecks(remove(current.checks(), id), current.asyncChecks());
+            } else if (current.asyncChecks().get(id) == leasedCheck) {
+                return current.withChecks(current.checks(), remove(current.asyncChecks(), id));
+            }
+            return current;
+        });
+    }
+
+    private void update(UnaryOperator<Snapshot> modification) {
+        Snapshot previous;
+        Snapshot next;
+        do {
+            previous = snapshot.get();
+            next = modification.apply(previous);
+        } while (previous != next && !snapshot.compareAndSet(previous, next));
+
+        if (previous != next) {
+            Set<String> leftIds = new HashSet<>();
+            collectLeftIds(previous.checks(), next.checks(), leftIds);
+            collectLeftIds(previous.asyncChecks(), next.asyncChecks(), leftIds);
+            // the responses of a removed or replaced check must not be served any longer
+            asyncHealthCheckFactory.getResultCache().invalidate(leftIds);
+        }
+    }
+
+    /**
+     * Collects the IDs whose check was removed or replaced by another one.
+     */
+    private static <T> void collectLeftIds(Map<String, T> previous, Map<String, T> next, Set<String> leftIds) {
+        if (previous != next) {
+            previous.forEach((id, check) -> {
+                if (next.get(id) != check) {
+                    leftIds.add(id);
+                }
+            });
+        }
+    }
+
+    private static <T> NavigableMap<String, T> put(NavigableMap<String, T> checks, String id, T check) {
+        NavigableMap<String, T> copy = new TreeMap<>(checks);
+        copy.put(id, check);
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    private static <T> NavigableMap<String, T> remove(NavigableMap<String, T> checks, String id) {
+        if (!checks.containsKey(id)) {
+            return checks;
+        }
+        NavigableMap<String, T> copy = new TreeMap<>(checks);
+        copy.remove(id);
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    private static <T> NavigableMap<String, T> putAll(NavigableMap<String, T> checks, Map<String, T> newChecks) {
+        if (newChecks.isEmpty()) {
+            return checks;
+        }
+        NavigableMap<String, T> copy = new TreeMap<>(checks);
+        copy.putAll(newChecks);
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    private static <T> NavigableMap<String, T> removeAll(NavigableMap<String, T> checks, Collection<String> ids) {
+        NavigableMap<String, T> copy = null;
+        for (String id : ids) {
+            if (checks.containsKey(id)) {
+                if (copy == null) {
+                    copy = new TreeMap<>(checks);
+                }
+                copy.remove(id);
+            }
+        }
+        return copy == null ? checks : Collections.unmodifiableNavigableMap(copy);
+    }
+
+    private static <T> NavigableMap<String, T> removeByPrefix(NavigableMap<String, T> checks, String prefix) {
+        // the IDs with the prefix form one contiguous range of the sorted map starting at the prefix itself
+        String first = checks.ceilingKey(prefix);
+        if (first == null || !first.startsWith(prefix)) {
+            return checks;
+        }
+
+        NavigableMap<String, T> copy = new TreeMap<>(checks);
+        for (Iterator<String> ids = copy.tailMap(first, true).keySet().iterator(); ids.hasNext();) {
+            if (!ids.next().startsWith(prefix)) {
+                break;
+            }
+            ids.remove();
+        }
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    /**
+     * Immutable state of the registry.
+     *
+     * @param checks the registered synchronous checks sorted by their IDs
+     * @param asyncChecks the registered asynchronous checks sorted by their IDs
+     * @param version the number of modifications that led to this snapshot
+     */
+    public record Snapshot(NavigableMap<String, HealthCheck> checks, NavigableMap<String, AsyncHealthCheck> asyncChecks,
+            long version) {
+
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyNavigableMap(), Collections.emptyNavigableMap(), 0);
+
+        Snapshot withChecks(NavigableMap<String, HealthCheck> checks, NavigableMap<String, AsyncHealthCheck> asyncChecks) {
+            return new Snapshot(checks, asyncChecks, version + 1);
+        }
+
+        /**
+         * @return the IDs of this snapshot that aren't registered in the other one
+         */
+        public Set<String> idsMissingFrom(Snapshot other) {
+            Set<String> missing = new HashSet<>();
+            for (String id : checks.keySet()) {
+                if (!other.checks.containsKey(id) && !other.asyncChecks.containsKey(id)) {
+                    missing.add(id);
+                }
+            }
+            for (String id : asyncChecks.keySet()) {
+                if (!other.checks.containsKey(id) && !other.asyncChecks.containsKey(id)) {
+                    missing.add(id);
+                }
+            }
+            return missing;
+        }
     }
 }
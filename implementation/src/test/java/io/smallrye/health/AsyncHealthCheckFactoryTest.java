@@ -1,11 +1,46 @@
 package io.smallrye.health;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.health.api.HealthCheckContext;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.testing.logging.LogCapture;
 
 public class AsyncHealthCheckFactoryTest {
 
+    @RegisterExtension
+    static LogCapture logCapture = LogCapture.with(logRecord -> logRecord.getMessage().startsWith("SRHCK"), Level.ALL);
+
+    private static final Duration maxDuration = Duration.ofSeconds(5);
+
     private AsyncHealthCheckFactory asyncHealthCheckFactory;
 
     @BeforeEach
@@ -17,4 +52,349 @@ public class AsyncHealthCheckFactoryTest {
     public void nulluncheckedExceptionDataStyleTest() {
         Assertions.assertThrows(NullPointerException.class, () -> asyncHealthCheckFactory.setUncheckedExceptionDataStyle(null));
     }
+
+    @Test
+    public void cachedSyncCheckTest() {
+        CountingHealthCheck check = new CountingHealthCheck();
+        asyncHealthCheckFactory.getResultCache().setTtl(CountingHealthCheck.class.getName(), Duration.ofMinutes(1));
+
+        Uni<HealthCheckResponse> uni = asyncHealthCheckFactory.callSync(check);
+        assertEquals("counting-1", uni.await().atMost(maxDuration).getName());
+        assertEquals("counting-1", uni.await().atMost(maxDuration).getName());
+        assertEquals("counting-1", asyncHealthCheckFactory.callSync(check).await().atMost(maxDuration).getName());
+
+        assertEquals(1, check.invocations.get());
+        assertEquals(2, asyncHealthCheckFactory.getResultCache().getHits());
+        assertEquals(1, asyncHealthCheckFactory.getResultCache().getMisses());
+
+        asyncHealthCheckFactory.getResultCache().invalidate();
+        assertEquals("counting-2", uni.await().atMost(maxDuration).getName());
+    }
+
+    @Test
+    public void cachedAsyncCheckTest() {
+        CountingAsyncHealthCheck check = new CountingAsyncHealthCheck();
+        asyncHealthCheckFactory.getResultCache().setDefaultTtl(Duration.ofMinutes(1));
+
+        Uni<HealthCheckResponse> uni = asyncHealthCheckFactory.callAsync(check);
+        assertEquals("counting-1", uni.await().atMost(maxDuration).getName());
+        assertEquals("counting-1", uni.await().atMost(maxDuration).getName());
+
+        assertEquals(1, check.invocations.get());
+        assertEquals(1, asyncHealthCheckFactory.getResultCache().getHits());
+        assertEquals(1, asyncHealthCheckFactory.getResultCache().getMisses());
+    }
+
+    @Test
+    public void cachedInstancesOfOneClassTest() {
+        asyncHealthCheckFactory.getResultCache().setTtl(StatusHealthCheck.class.getName(), Duration.ofMinutes(1));
+        StatusHealthCheck up = new StatusHealthCheck(HealthCheckResponse.Status.UP);
+        StatusHealthCheck down = new StatusHealthCheck(HealthCheckResponse.Status.DOWN);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(HealthCheckResponse.Status.UP,
+                    asyncHealthCheckFactory.callSync(up).await().atMost(maxDuration).getStatus());
+            assertEquals(HealthCheckResponse.Status.DOWN,
+                    asyncHealthCheckFactory.callSync(down).await().atMost(maxDuration).getStatus());
+        }
+        assertEquals(2, asyncHealthCheckFactory.getResultCache().getHits());
+
+        asyncHealthCheckFactory.getResultCache().invalidate(StatusHealthCheck.class.getName());
+        asyncHealthCheckFactory.callSync(up).await().atMost(maxDuration);
+        assertEquals(3, asyncHealthCheckFactory.getResultCache().getMisses());
+    }
+
+    @Test
+    public void proxiedBeanConfiguredByBeanClassTest() {
+        asyncHealthCheckFactory.getResultCache().setTtl(CountingHealthCheck.class.getName(), Duration.ofMinutes(1));
+        // the instance of a normal-scoped bean is a client proxy subclassing the bean class
+        CountingHealthCheck proxy = new CountingHealthCheck() {
+        };
+        Bean<CountingHealthCheck> bean = new CheckBean<>(CountingHealthCheck.class);
+
+        asyncHealthCheckFactory.callSync(proxy, bean, AsyncHealthCheckFactory.InvocationListener.NONE)
+                .await().atMost(maxDuration);
+        asyncHealthCheckFactory.callSync(proxy, bean, AsyncHealthCheckFactory.InvocationListener.NONE)
+                .await().atMost(maxDuration);
+        assertEquals(1, proxy.invocations.get());
+    }
+
+    @Test
+    public void proxiedBeanTimeoutLoggedOnceTest() {
+        asyncHealthCheckFactory.setTimeout(SlowAsyncHealthCheck.class.getName(), Duration.ofMillis(50));
+        SlowAsyncHealthCheck proxy = new SlowAsyncHealthCheck() {
+        };
+        Bean<SlowAsyncHealthCheck> bean = new CheckBean<>(SlowAsyncHealthCheck.class);
+        logCapture.records().clear();
+
+        for (int i = 0; i < 3; i++) {
+            HealthCheckResponse response = asyncHealthCheckFactory
+                    .callAsync(proxy, bean, AsyncHealthCheckFactory.InvocationListener.NONE).await().atMost(maxDuration);
+            assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+            assertEquals(SlowAsyncHealthCheck.class.getName(), response.getName());
+        }
+        assertEquals(1, logCapture.records().size());
+        assertTrue(logCapture.records().get(0).getMessage().startsWith("SRHCK01004"));
+    }
+
+    @Test
+    public void invocationListenerTest() {
+        List<Boolean> outcomes = new CopyOnWriteArrayList<>();
+
+        HealthCheckResponse response = asyncHealthCheckFactory.callSync(() -> {
+            throw new IllegalStateException("failure");
+        }, "failing", outcomes::add).await().atMost(maxDuration);
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertEquals(List.of(false), outcomes);
+
+        CountingHealthCheck check = new CountingHealthCheck();
+        asyncHealthCheckFactory.getResultCache().setTtl(CountingHealthCheck.class.getName(), Duration.ofMinutes(1));
+        Uni<HealthCheckResponse> uni = asyncHealthCheckFactory.callSync(check, check, outcomes::add);
+        uni.await().atMost(maxDuration);
+        // the cached response doesn't invoke the check
+        uni.await().atMost(maxDuration);
+        assertEquals(1, check.invocations.get());
+        assertEquals(List.of(false, true, true), outcomes);
+    }
+
+    @Test
+    public void cacheDisabledByDefaultTest() {
+        CountingHealthCheck check = new CountingHealthCheck();
+
+        Uni<HealthCheckResponse> uni = asyncHealthCheckFactory.callSync(check);
+        assertEquals("counting-1", uni.await().atMost(maxDuration).getName());
+        assertEquals("counting-2", uni.await().atMost(maxDuration).getName());
+
+        assertEquals(0, asyncHealthCheckFactory.getResultCache().getHits());
+        assertEquals(0, asyncHealthCheckFactory.getResultCache().getMisses());
+    }
+
+    @Test
+    public void parallelSyncChecksTest() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        asyncHealthCheckFactory.setSyncChecksExecutor(executor);
+        try {
+            // both checks only complete if they are invoked concurrently
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            HealthCheck check = () -> {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return HealthCheckResponse.up("parallel");
+            };
+
+            List<HealthCheckResponse> responses = Uni.join()
+                    .all(asyncHealthCheckFactory.callSync(check), asyncHealthCheckFactory.callSync(check))
+                    .andCollectFailures().await().atMost(maxDuration);
+
+            for (HealthCheckResponse response : responses) {
+                assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void syncCheckTimeoutTest() {
+        CountDownLatch release = new CountDownLatch(1);
+        asyncHealthCheckFactory.setTimeout("slow", Duration.ofMillis(100));
+        try {
+            HealthCheckResponse response = asyncHealthCheckFactory.callSync("slow", () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return HealthCheckResponse.up("slow");
+            }).await().atMost(maxDuration);
+
+            assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+            assertEquals(100L, response.getData().orElseThrow().get("timeoutMillis"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void timedOutSyncCheckInterruptedTest() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        asyncHealthCheckFactory.setTimeout("blocking", Duration.ofMillis(100));
+
+        HealthCheckResponse response = asyncHealthCheckFactory.callSync("blocking", () -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return HealthCheckResponse.up("blocking");
+        }).await().atMost(maxDuration);
+
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, asyncHealthCheckFactory.getCancelledChecks());
+    }
+
+    @Test
+    public void cancelledAsyncCheckTest() {
+        AtomicInteger cancellations = new AtomicInteger();
+        Uni<HealthCheckResponse> uni = asyncHealthCheckFactory.callAsync(() -> Uni.createFrom()
+                .<HealthCheckResponse> nothing()
+                .onCancellation().invoke(cancellations::incrementAndGet));
+
+        uni.subscribe().with(response -> {
+        }).cancel();
+
+        assertEquals(1, cancellations.get());
+        assertEquals(1, asyncHealthCheckFactory.getCancelledChecks());
+    }
+
+    @Test
+    public void asyncCheckTimeoutTest() {
+        asyncHealthCheckFactory.setDefaultTimeout(Duration.ofMillis(100));
+
+        HealthCheckResponse response = asyncHealthCheckFactory
+                .callAsync(() -> Uni.createFrom().item(HealthCheckResponse.up("slow"))
+                        .onItem().delayIt().by(Duration.ofSeconds(10)))
+                .await().atMost(maxDuration);
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+
+        response = asyncHealthCheckFactory.callAsync(() -> Uni.createFrom().item(HealthCheckResponse.up("fast")))
+                .await().atMost(maxDuration);
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
+    }
+
+    @Test
+    public void checkContextTest() {
+        ContextAwareHealthCheck check = new ContextAwareHealthCheck();
+        asyncHealthCheckFactory.setProbeTimeout(Duration.ofSeconds(10));
+
+        assertEquals(HealthCheckResponse.Status.UP, asyncHealthCheckFactory.callAsync(check).await().atMost(maxDuration)
+                .getStatus());
+        Duration remainingTime = check.context.getRemainingTime().orElseThrow();
+        Assertions.assertTrue(remainingTime.compareTo(Duration.ofSeconds(10)) <= 0);
+        Assertions.assertTrue(remainingTime.compareTo(Duration.ofSeconds(5)) > 0);
+
+        asyncHealthCheckFactory.setTimeout("context", Duration.ofSeconds(1));
+        asyncHealthCheckFactory.callAsync("context", check).await().atMost(maxDuration);
+        Assertions.assertTrue(check.context.getRemainingTime().orElseThrow().compareTo(Duration.ofSeconds(1)) <= 0);
+
+        asyncHealthCheckFactory.setProbeTimeout(Duration.ZERO);
+        asyncHealthCheckFactory.callAsync(check).await().atMost(maxDuration);
+        Assertions.assertTrue(check.context.getRemainingTime().isEmpty());
+        Assertions.assertFalse(check.context.isExpired());
+    }
+
+    private static final class ContextAwareHealthCheck implements AsyncHealthCheck {
+
+        private volatile HealthCheckContext context;
+
+        @Override
+        public Uni<HealthCheckResponse> call() {
+            return call(HealthCheckContext.unbounded());
+        }
+
+        @Override
+        public Uni<HealthCheckResponse> call(HealthCheckContext context) {
+            this.context = context;
+            return Uni.createFrom().item(HealthCheckResponse.up("context"));
+        }
+    }
+
+    private static final class StatusHealthCheck implements HealthCheck {
+        private final HealthCheckResponse.Status status;
+
+        private StatusHealthCheck(HealthCheckResponse.Status status) {
+            this.status = status;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("status").status(status == HealthCheckResponse.Status.UP).build();
+        }
+    }
+
+    private static final class CheckBean<T> implements Bean<T> {
+        private final Class<T> beanClass;
+
+        private CheckBean(Class<T> beanClass) {
+            this.beanClass = beanClass;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return beanClass;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return Set.of();
+        }
+
+        @Override
+        public T create(CreationalContext<T> creationalContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void destroy(T instance, CreationalContext<T> creationalContext) {
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(beanClass);
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return Set.of();
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return ApplicationScoped.class;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getStereotypes() {
+            return Set.of();
+        }
+
+        @Override
+        public boolean isAlternative() {
+            return false;
+        }
+    }
+
+    private static class SlowAsyncHealthCheck implements AsyncHealthCheck {
+        @Override
+        public Uni<HealthCheckResponse> call() {
+            return Uni.createFrom().nothing();
+        }
+    }
+
+    private static class CountingHealthCheck implements HealthCheck {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.up("counting-" + invocations.incrementAndGet());
+        }
+    }
+
+    private static final class CountingAsyncHealthCheck implements AsyncHealthCheck {
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public Uni<HealthCheckResponse> call() {
+            return Uni.createFrom().item(() -> HealthCheckResponse.up("counting-" + invocations.incrementAndGet()));
+        }
+    }
 }
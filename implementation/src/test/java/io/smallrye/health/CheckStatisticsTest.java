@@ -0,0 +1,33 @@
+package io.smallrye.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CheckStatisticsTest {
+
+    @Test
+    public void testOrder() {
+        CheckStatistics statistics = new CheckStatistics();
+        ExecutionPlan.PlannedCheck slow = new ExecutionPlan.PlannedCheck("slow", null, false);
+        ExecutionPlan.PlannedCheck fast = new ExecutionPlan.PlannedCheck("fast", null, false);
+        ExecutionPlan.PlannedCheck failing = new ExecutionPlan.PlannedCheck("failing", null, false);
+        ExecutionPlan.PlannedCheck critical = new ExecutionPlan.PlannedCheck("critical", null, true);
+        statistics.record("slow", 1_000_000, false);
+        statistics.record("fast", 1_000, false);
+        statistics.record("failing", 10_000_000, true);
+        statistics.record("critical", 100_000_000, false);
+
+        List<ExecutionPlan.PlannedCheck> checks = new ArrayList<>(List.of(slow, fast, failing, critical));
+        checks.sort(statistics.order);
+        assertEquals(List.of(critical, failing, fast, slow), checks);
+
+        // the failing check recovered
+        statistics.record("failing", 10_000_000, false);
+        checks.sort(statistics.order);
+        assertEquals(List.of(critical, fast, slow, failing), checks);
+    }
+}
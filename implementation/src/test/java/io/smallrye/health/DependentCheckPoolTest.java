@@ -0,0 +1,93 @@
+package io.smallrye.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class DependentCheckPoolTest {
+
+    private static final Object BEAN = new Object();
+
+    @Test
+    public void testInstanceReused() {
+        DependentCheckPool pool = new DependentCheckPool(2, Duration.ZERO);
+        AtomicInteger destroyed = new AtomicInteger();
+
+        assertNull(pool.acquire(BEAN));
+        DependentCheckPool.PooledInstance<String> instance = pool.create("check", destroyed::incrementAndGet);
+        pool.release(BEAN, instance, true);
+        assertEquals(1, pool.idleCount(BEAN));
+
+        assertSame(instance, pool.acquire(BEAN));
+        assertEquals(0, pool.idleCount(BEAN));
+        assertEquals(0, destroyed.get());
+    }
+
+    @Test
+    public void testPoolSizeLimit() {
+        DependentCheckPool pool = new DependentCheckPool(1, Duration.ZERO);
+        AtomicInteger destroyed = new AtomicInteger();
+
+        pool.release(BEAN, pool.create("first", destroyed::incrementAndGet), true);
+        pool.release(BEAN, pool.create("second", destroyed::incrementAndGet), true);
+
+        assertEquals(1, pool.idleCount(BEAN));
+        assertEquals(1, destroyed.get());
+
+        // reducing the pool size trims the surplus instances on the next release
+        pool.setMaxSize(0);
+        pool.release(BEAN, pool.create("third", destroyed::incrementAndGet), true);
+        assertEquals(0, pool.idleCount(BEAN));
+        assertEquals(3, destroyed.get());
+    }
+
+    @Test
+    public void testFailedInstanceDestroyed() {
+        DependentCheckPool pool = new DependentCheckPool(2, Duration.ZERO);
+        AtomicInteger destroyed = new AtomicInteger();
+
+        pool.release(BEAN, pool.create("check", destroyed::incrementAndGet), false);
+
+        assertEquals(0, pool.idleCount(BEAN));
+        assertEquals(1, destroyed.get());
+    }
+
+    @Test
+    public void testExpiredInstanceDestroyed() throws InterruptedException {
+        DependentCheckPool pool = new DependentCheckPool(2, Duration.ofMillis(50));
+        AtomicInteger destroyed = new AtomicInteger();
+
+        pool.release(BEAN, pool.create("check", destroyed::incrementAndGet), true);
+        Thread.sleep(100);
+
+        assertNull(pool.acquire(BEAN));
+        assertEquals(1, destroyed.get());
+    }
+
+    @Test
+    public void testClear() {
+        DependentCheckPool pool = new DependentCheckPool(2, Duration.ZERO);
+        AtomicInteger destroyed = new AtomicInteger();
+
+        pool.release(BEAN, pool.create("idle", destroyed::incrementAndGet), true);
+        DependentCheckPool.PooledInstance<String> inUse = pool.create("inUse", destroyed::incrementAndGet);
+
+        pool.clear();
+        assertEquals(1, destroyed.get());
+
+        // the instance in use when the pool was cleared isn't pooled again
+        pool.release(BEAN, inUse, true);
+        assertEquals(2, destroyed.get());
+        assertEquals(0, pool.idleCount(BEAN));
+
+        DependentCheckPool.PooledInstance<String> instance = pool.create("check", destroyed::incrementAndGet);
+        pool.release(BEAN, instance, true);
+        assertNotNull(pool.acquire(BEAN));
+    }
+}
@@ -0,0 +1,78 @@
+package io.smallrye.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.health.registry.HealthRegistryImpl;
+
+/**
+ * Counts the bytes allocated by the probing thread, the checks are invoked on the thread subscribing to the probe.
+ */
+public class ExecutionPlanAllocationTest {
+
+    private static final int CHECKS = 50;
+    private static final int PROBES = 2_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    private SmallRyeHealthReporter reporter;
+
+    @BeforeEach
+    public void beforeEach() {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+
+        reporter = new SmallRyeHealthReporter();
+        reporter.livenessHealthRegistry = new HealthRegistryImpl();
+        reporter.readinessHealthRegistry = new HealthRegistryImpl();
+        reporter.wellnessHealthRegistry = new HealthRegistryImpl();
+        reporter.startupHealthRegistry = new HealthRegistryImpl();
+        for (int i = 0; i < CHECKS; i++) {
+            HealthCheckResponse response = HealthCheckResponse.up("check-" + i);
+            reporter.livenessHealthRegistry.register("check-" + i, (HealthCheck) () -> response);
+        }
+    }
+
+    @Test
+    public void reusedPlanAllocationTest() {
+        long reused = allocatedBytesPerProbe(false);
+        long rebuilt = allocatedBytesPerProbe(true);
+
+        assertTrue(reused * 2 < rebuilt, "A probe reusing the execution plan allocated " + reused
+                + " bytes, a probe rebuilding it " + rebuilt + " bytes");
+    }
+
+    /**
+     * @param rebuildPlan whether the execution plans are created again before every probe, as they were before the
+     *        plans were reused
+     */
+    private long allocatedBytesPerProbe(boolean rebuildPlan) {
+        // warm up so that the lazily initialized state and the JIT don't count
+        for (int i = 0; i < PROBES; i++) {
+            probe(rebuildPlan);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < PROBES; i++) {
+            probe(rebuildPlan);
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / PROBES;
+    }
+
+    private void probe(boolean rebuildPlan) {
+        if (rebuildPlan) {
+            reporter.setHealthChecksConfigs(Map.of());
+        }
+        assertEquals(HealthCheckResponse.Status.UP, reporter.getLivenessStatus());
+    }
+}
@@ -0,0 +1,65 @@
+package io.smallrye.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class HealthCheckEnablementTest {
+
+    @Test
+    public void testTable() {
+        HealthCheckEnablement enablement = HealthCheckEnablement.of(Map.of("enabled", true, "disabled", false));
+
+        assertTrue(enablement.isEnabled("enabled"));
+        assertFalse(enablement.isEnabled("disabled"));
+        assertNull(enablement.isEnabled("unknown"));
+
+        HealthCheckEnablement extended = enablement.withAll(Map.of("unknown", false, "disabled", true));
+        assertFalse(extended.isEnabled("unknown"));
+        assertFalse(extended.isEnabled("disabled"));
+        assertNull(enablement.isEnabled("unknown"));
+        assertSame(extended, extended.withAll(Map.of("unknown", true)));
+    }
+
+    @Test
+    public void testWithoutAll() {
+        HealthCheckEnablement enablement = HealthCheckEnablement.of(Map.of("first", false, "second", true, "third", false));
+
+        HealthCheckEnablement pruned = enablement.withoutAll(Set.of("second", "unknown"));
+        assertEquals(Set.of("first", "third"), pruned.checkNames());
+        assertFalse(pruned.isEnabled("first"));
+        assertNull(pruned.isEnabled("second"));
+        assertFalse(pruned.isEnabled("third"));
+        assertSame(pruned, pruned.withoutAll(Set.of("second")));
+    }
+
+    @Test
+    public void testAgreesWith() {
+        HealthCheckEnablement enablement = HealthCheckEnablement.of(Map.of("first", true))
+                .withAll(Map.of("second", false));
+
+        assertTrue(enablement.agreesWith(HealthCheckEnablement.of(Map.of("first", true, "second", false))));
+        assertTrue(enablement.agreesWith(HealthCheckEnablement.of(Map.of("first", true, "second", false, "third", false))));
+        assertFalse(enablement.agreesWith(HealthCheckEnablement.of(Map.of("first", true, "second", true))));
+        assertFalse(enablement.agreesWith(HealthCheckEnablement.of(Map.of("first", true))));
+    }
+
+    @Test
+    public void testOverridesTakePrecedence() {
+        HealthCheckEnablement enablement = HealthCheckEnablement.resolve(Set.of("configured", "overridden"),
+                Map.of("overridden", false));
+
+        assertTrue(enablement.isEnabled("configured"));
+        assertFalse(enablement.isEnabled("overridden"));
+        assertTrue(enablement.agreesWith(HealthCheckEnablement.resolve(Set.of("configured"), Map.of("overridden", false))));
+        assertFalse(HealthCheckEnablement.lookup("overridden", Map.of("overridden", false)));
+        assertTrue(HealthCheckEnablement.lookup("unknown", Map.of("overridden", false)));
+    }
+}
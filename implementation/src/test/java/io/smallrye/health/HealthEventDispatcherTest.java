@@ -0,0 +1,69 @@
+package io.smallrye.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+public class HealthEventDispatcherTest {
+
+    @Test
+    public void testPendingDeliveriesCoalesced() throws InterruptedException {
+        HealthEventDispatcher dispatcher = new HealthEventDispatcher();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch("liveness", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add("first");
+            finished.countDown();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // the observer is still busy with the first event, only the latest of the following ones is delivered
+        dispatcher.dispatch("liveness", () -> delivered.add("second"));
+        dispatcher.dispatch("liveness", () -> delivered.add("third"));
+        dispatcher.dispatch("liveness", () -> {
+            delivered.add("fourth");
+            finished.countDown();
+        });
+        release.countDown();
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "fourth"), delivered);
+    }
+
+    @Test
+    public void testShutdownStopsDeliveryThread() throws InterruptedException {
+        HealthEventDispatcher dispatcher = new HealthEventDispatcher();
+        AtomicReference<Thread> deliveryThread = new AtomicReference<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        dispatcher.dispatch("liveness", () -> {
+            deliveryThread.set(Thread.currentThread());
+            delivered.countDown();
+        });
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+
+        dispatcher.shutdown();
+        deliveryThread.get().join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(deliveryThread.get().isAlive());
+
+        // the events dispatched after the shutdown are dropped instead of being rejected
+        dispatcher.dispatch("liveness", () -> {
+        });
+    }
+}
@@ -5,7 +5,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
@@ -17,9 +25,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.health.api.HealthCheckLease;
 import io.smallrye.health.api.HealthRegistry;
 import io.smallrye.health.api.HealthType;
 import io.smallrye.health.registry.HealthRegistries;
+import io.smallrye.health.registry.HealthRegistryImpl;
 import io.smallrye.mutiny.Uni;
 
 public class HealthRegistryTest {
@@ -241,6 +251,94 @@ public class HealthRegistryTest {
                 () -> HealthRegistries.getHealthGroupRegistry("HealthGroup101"));
     }
 
+    @Test
+    public void testConcurrentModifications() throws Exception {
+        HealthRegistryImpl registry = new HealthRegistryImpl();
+        HealthCheck check = () -> HealthCheckResponse.up("tenant");
+        int threads = 4;
+        int registrations = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String tenant = "tenant" + t + "-";
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < registrations; i++) {
+                        registry.register(tenant + i, check);
+                        if (i % 2 == 1) {
+                            registry.remove(tenant + (i - 1));
+                        }
+                    }
+                }));
+            }
+
+            // readers work on immutable snapshots while the registry is modified
+            long version = 0;
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                registry.getChecks(Map.of());
+                long currentVersion = registry.getVersion();
+                assertThat(currentVersion >= version, is(true));
+                version = currentVersion;
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * registrations / 2, registry.getSnapshot().checks().size());
+        assertEquals(threads * (registrations + registrations / 2), registry.getVersion());
+    }
+
+    @Test
+    public void testBulkRegistrationAndRemoval() {
+        HealthRegistryImpl registry = new HealthRegistryImpl();
+        HealthCheck check = () -> HealthCheckResponse.up("tenant");
+        AsyncHealthCheck asyncCheck = () -> Uni.createFrom().item(HealthCheckResponse.up("asyncTenant"));
+
+        registry.registerAll(Map.of("tenant1/db", check, "tenant1/cache", check, "tenant10/db", check, "tenant2/db", check));
+        registry.registerAllAsync(Map.of("tenant1/broker", asyncCheck, "tenant2/broker", asyncCheck));
+        assertEquals(2, registry.getVersion());
+        assertEquals(6, registry.getChecks(Map.of()).size());
+
+        registry.removeByPrefix("tenant1/");
+        assertEquals(3, registry.getVersion());
+        assertEquals(List.of("tenant10/db", "tenant2/db"), List.copyOf(registry.getSnapshot().checks().keySet()));
+        assertEquals(List.of("tenant2/broker"), List.copyOf(registry.getSnapshot().asyncChecks().keySet()));
+
+        // unknown ids are ignored and an ineffective removal doesn't change the version
+        registry.removeByPrefix("tenant3/");
+        registry.removeAll(List.of("unknown"));
+        assertEquals(3, registry.getVersion());
+
+        registry.removeAll(List.of("tenant10/db", "tenant2/db", "tenant2/broker", "unknown"));
+        assertEquals(4, registry.getVersion());
+        assertThat(registry.getChecks(Map.of()).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testLeasedCheckFailureNamedAfterLeasedCheck() {
+        HealthRegistryImpl registry = new HealthRegistryImpl();
+        HealthCheckLease lease = registry.registerWithLease("worker-3", new FailingHealthCheck(), Duration.ofMinutes(1),
+                HealthCheckLease.ExpirationPolicy.DOWN);
+
+        HealthCheckResponse response = registry.getChecks(Map.of()).iterator().next().await().atMost(Duration.ofSeconds(5));
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertEquals(FailingHealthCheck.class.getName(), response.getName());
+
+        lease.release();
+    }
+
+    private static final class FailingHealthCheck implements HealthCheck {
+
+        @Override
+        public HealthCheckResponse call() {
+            throw new IllegalStateException("worker failure");
+        }
+    }
+
     private void assertExpectedHealth(SmallRyeHealth health, String... healthCheckNames) {
         assertThat(health.isDown(), is(false));
         assertThat(health.getPayload().getString("status"), is("UP"));
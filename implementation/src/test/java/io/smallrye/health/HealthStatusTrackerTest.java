@@ -0,0 +1,79 @@
+package io.smallrye.health;
+
+import static org.eclipse.microprofile.health.HealthCheckResponse.Status.DOWN;
+import static org.eclipse.microprofile.health.HealthCheckResponse.Status.UP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.health.api.HealthType;
+
+public class HealthStatusTrackerTest {
+
+    @Test
+    public void testTransitions() {
+        HealthStatusTracker tracker = new HealthStatusTracker();
+
+        assertFalse(tracker.transition(HealthType.LIVENESS, tracker.startEvaluation(), UP));
+        assertTrue(tracker.transition(HealthType.LIVENESS, tracker.startEvaluation(), DOWN));
+        assertFalse(tracker.transition(HealthType.LIVENESS, tracker.startEvaluation(), DOWN));
+        assertEquals(DOWN, tracker.combinedStatus(List.of(HealthType.LIVENESS, HealthType.READINESS)));
+
+        assertTrue(tracker.transition(HealthType.LIVENESS, tracker.startEvaluation(), UP));
+        assertEquals(UP, tracker.combinedStatus(List.of(HealthType.LIVENESS, HealthType.READINESS)));
+    }
+
+    @Test
+    public void testStaleEvaluationIgnored() {
+        HealthStatusTracker tracker = new HealthStatusTracker();
+        long older = tracker.startEvaluation();
+        long newer = tracker.startEvaluation();
+
+        assertTrue(tracker.transition("group", newer, DOWN));
+        // the older evaluation completes later, but its status is already outdated
+        assertFalse(tracker.transition("group", older, UP));
+        assertEquals(DOWN, tracker.combinedStatus(List.of("group")));
+    }
+
+    @Test
+    public void testConcurrentTransitionsReportedOnce() throws Exception {
+        HealthStatusTracker tracker = new HealthStatusTracker();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger transitions = new AtomicInteger();
+
+        try {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                long sequence = tracker.startEvaluation();
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (tracker.transition(HealthType.READINESS, sequence, DOWN)) {
+                        transitions.incrementAndGet();
+                    }
+                }, executor);
+            }
+            start.countDown();
+            CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, transitions.get());
+    }
+}
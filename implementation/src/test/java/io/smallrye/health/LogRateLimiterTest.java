@@ -0,0 +1,70 @@
+package io.smallrye.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class LogRateLimiterTest {
+
+    @Test
+    public void testIdenticalMessagesSuppressed() throws InterruptedException {
+        LogRateLimiter limiter = new LogRateLimiter(Duration.ofMillis(200));
+
+        assertEquals(0, limiter.tryLog("check", 1));
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryLog("check", 1));
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryLog("check", 1));
+        // other keys are independent
+        assertEquals(0, limiter.tryLog("other", 1));
+
+        Thread.sleep(300);
+        assertEquals(2, limiter.tryLog("check", 1));
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryLog("check", 1));
+    }
+
+    @Test
+    public void testTransitionLogged() {
+        LogRateLimiter limiter = new LogRateLimiter(Duration.ofMinutes(1));
+
+        assertEquals(0, limiter.tryLog("check", 1));
+        assertEquals(0, limiter.tryLog("check", 2));
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryLog("check", 2));
+
+        limiter.reset("check");
+        assertEquals(0, limiter.tryLog("check", 2));
+    }
+
+    @Test
+    public void testZeroWindowLogsEveryMessage() {
+        LogRateLimiter limiter = new LogRateLimiter(Duration.ZERO);
+
+        assertEquals(0, limiter.tryLog("check", 1));
+        assertEquals(0, limiter.tryLog("check", 1));
+    }
+
+    @Test
+    public void testExpiredKeysEvicted() {
+        AtomicLong nanoTime = new AtomicLong();
+        LogRateLimiter limiter = new LogRateLimiter(Duration.ofSeconds(1), nanoTime::get);
+
+        assertEquals(0, limiter.tryLog("removed", 1));
+        assertEquals(0, limiter.tryLog("suppressing", 1));
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.tryLog("suppressing", 1));
+
+        // the key with suppressed messages is kept for one more window
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, limiter.tryLog("active", 1));
+        limiter.reset("active");
+        assertFalse(limiter.isEmpty());
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, limiter.tryLog("active", 1));
+        limiter.reset("active");
+        assertTrue(limiter.isEmpty());
+    }
+}
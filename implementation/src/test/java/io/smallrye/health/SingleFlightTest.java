@@ -0,0 +1,34 @@
+package io.smallrye.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+
+public class SingleFlightTest {
+
+    @Test
+    public void evaluationStartedOutsideOfComputeTest() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger evaluations = new AtomicInteger();
+        List<String> joined = new CopyOnWriteArrayList<>();
+
+        Uni<String> first = singleFlight.execute("key", () -> {
+            evaluations.incrementAndGet();
+            // a request arriving while the evaluation starts joins it instead of updating the map recursively
+            singleFlight.execute("key", () -> Uni.createFrom().item("second")).subscribe().with(joined::add);
+            return Uni.createFrom().item("first");
+        });
+
+        assertEquals(0, evaluations.get());
+        assertEquals("first", first.await().atMost(Duration.ofSeconds(5)));
+        assertEquals(List.of("first"), joined);
+        assertEquals(1, evaluations.get());
+    }
+}
@@ -11,13 +11,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 
@@ -33,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.health.api.HealthCheckContext;
 import io.smallrye.health.api.HealthRegistry;
 import io.smallrye.health.api.HealthType;
 import io.smallrye.health.registry.HealthRegistries;
@@ -138,6 +145,17 @@ public class SmallRyeHealthReporterTest {
         logCapture.records().clear();
     }
 
+    /**
+     * Replaces the process-wide registries used by the reporter with fresh ones, so that the checks registered by a
+     * test don't leak into the other tests.
+     */
+    private void useOwnRegistries() {
+        reporter.livenessHealthRegistry = new HealthRegistryImpl();
+        reporter.readinessHealthRegistry = new HealthRegistryImpl();
+        reporter.wellnessHealthRegistry = new HealthRegistryImpl();
+        reporter.startupHealthRegistry = new HealthRegistryImpl();
+    }
+
     @Test
     public void testDefaultGetHealth() {
         testDefaultGetHealth(() -> reporter.getHealth());
@@ -295,6 +313,49 @@ public class SmallRyeHealthReporterTest {
                 "\"checks\":[{\"name\":\"down\",\"status\":\"DOWN\"}]}");
     }
 
+    @Test
+    public void testStatusOnly() {
+        useOwnRegistries();
+        assertEquals(UP, reporter.getLivenessStatusAsync().await().atMost(maxDuration));
+
+        reporter.setEmptyChecksOutcome(DOWN.name());
+        assertEquals(DOWN, reporter.getStatus());
+
+        reporter.addHealthCheck(new UpHealthCheck());
+        assertEquals(UP, reporter.getReadinessStatus());
+
+        reporter.addHealthCheck(new DownAsyncHealthCheck());
+        assertEquals(DOWN, reporter.getStatusAsync().await().atMost(maxDuration));
+        assertEquals(reporter.getHealth().getStatus(), reporter.getStatus());
+    }
+
+    @Test
+    public void testLivenessStatusShortCircuit() {
+        reporter.setLivenessShortCircuit(true);
+        assertEquals(UP, reporter.getLivenessStatus());
+
+        reporter.addHealthCheck(new UpHealthCheck());
+        assertEquals(UP, reporter.getLivenessStatusAsync().await().atMost(maxDuration));
+
+        reporter.addHealthCheck(new DownAsyncHealthCheck());
+        assertEquals(DOWN, reporter.getLivenessStatus());
+        assertEquals(reporter.getLiveness().getStatus(), reporter.getLivenessStatus());
+    }
+
+    @Test
+    public void testRepeatedReportWhenDownLoggedOnce() {
+        reporter.addHealthCheck(new DownHealthCheck());
+        reporter.reportHealth(new ByteArrayOutputStream(), reporter.getHealth());
+        reporter.reportHealth(new ByteArrayOutputStream(), reporter.getHealth());
+        assertEquals(1, logCapture.records().size());
+        assertLogContainsMessage("SRHCK01001: Reporting health down status: {\"status\":\"DOWN\"," +
+                "\"checks\":[{\"name\":\"down\",\"status\":\"DOWN\"}]}");
+
+        reporter.setLogDeduplicationWindow(Duration.ZERO);
+        reporter.reportHealth(new ByteArrayOutputStream(), reporter.getHealth());
+        assertEquals(2, logCapture.records().size());
+    }
+
     @Test
     public void testReportWhenDownAsync() {
         reporter.addHealthCheck(new DownAsyncHealthCheck());
@@ -371,6 +432,43 @@ public class SmallRyeHealthReporterTest {
                 "\"rootCause\":\"`supplier` must not be `null`\"}}]}");
     }
 
+    @Test
+    public void testStreamedReport() {
+        reporter.addHealthCheck(new UpHealthCheck());
+        reporter.addHealthCheck(new FailingHealthCheck());
+        reporter.addHealthCheck((HealthCheck) () -> HealthCheckResponse.named("data").up()
+                .withData("string", "value").withData("long", 42L).withData("boolean", true).build());
+        reporter.setAdditionalProperties(Map.of("foo", "bar"));
+        reporter.setPrettyPrint(false);
+
+        SmallRyeHealth health = reporter.getHealth();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reporter.reportHealth(out, health);
+
+        assertEquals(health.getPayload().toString(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testETag() {
+        reporter.addHealthCheck(new UpHealthCheck());
+
+        SmallRyeHealth health = reporter.getHealth();
+        String eTag = reporter.getETag(health);
+        assertThat(eTag.startsWith("\""), is(true));
+        assertEquals(eTag, reporter.getETag(health));
+        assertEquals(eTag, reporter.getETag(reporter.getHealth()));
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        reporter.reportHealth(first, health);
+        reporter.reportHealth(second, health);
+        assertEquals(first.toString(StandardCharsets.UTF_8), second.toString(StandardCharsets.UTF_8));
+        assertNotNull(health.serialized);
+
+        reporter.addHealthCheck(new DownHealthCheck());
+        assertThat(reporter.getETag(reporter.getHealth()).equals(eTag), is(false));
+    }
+
     @Test
     public void testAdditionalChecks() {
         UpHealthCheck upHealthCheck = new UpHealthCheck();
@@ -584,6 +682,170 @@ public class SmallRyeHealthReporterTest {
         assertEquals(0, checks.size());
     }
 
+    @Test
+    public void disabledCheckReregisteredTest() {
+        useOwnRegistries();
+        reporter.setHealthChecksConfigs(Map.of("tenant", false));
+
+        for (int i = 0; i < 3; i++) {
+            reporter.livenessHealthRegistry.register("tenant", new TestHealthCheck());
+            reporter.livenessHealthRegistry.register("other-" + i, new TestHealthCheck());
+            assertEquals(1, reporter.getLiveness().getPayload().getJsonArray("checks").size());
+
+            // the IDs leaving the registry are dropped from the enablement table, the override still applies
+            reporter.livenessHealthRegistry.removeAll(List.of("tenant", "other-" + i));
+            assertEquals(0, reporter.getLiveness().getPayload().getJsonArray("checks").size());
+        }
+    }
+
+    @Test
+    public void probeDeadlineTest() {
+        useOwnRegistries();
+        asyncHealthCheckFactory.setProbeTimeout(Duration.ofSeconds(10));
+
+        List<Duration> budgets = new CopyOnWriteArrayList<>();
+        AsyncHealthCheck check = new AsyncHealthCheck() {
+            @Override
+            public Uni<HealthCheckResponse> call() {
+                return call(HealthCheckContext.unbounded());
+            }
+
+            @Override
+            public Uni<HealthCheckResponse> call(HealthCheckContext context) {
+                budgets.add(context.getRemainingTime().orElseThrow());
+                try {
+                    // the checks are invoked one after the other
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Uni.createFrom().item(HealthCheckResponse.up("deadline"));
+            }
+        };
+        reporter.livenessHealthRegistry.register("first", check);
+        reporter.livenessHealthRegistry.register("second", check);
+
+        assertEquals(UP, reporter.getLiveness().getStatus());
+        assertEquals(2, budgets.size());
+        assertTrue(budgets.get(1).compareTo(budgets.get(0).minusMillis(250)) < 0,
+                "The second check should only get the time left of the probe: " + budgets);
+    }
+
+    @Test
+    public void singleFlightTest() {
+        reporter.setSingleFlight(true);
+
+        AtomicInteger invocations = new AtomicInteger();
+        CompletableFuture<HealthCheckResponse> response = new CompletableFuture<>();
+        reporter.addHealthCheck((AsyncHealthCheck) () -> {
+            invocations.incrementAndGet();
+            return Uni.createFrom().completionStage(response);
+        });
+
+        CompletableFuture<SmallRyeHealth> first = reporter.getLivenessAsync().subscribeAsCompletionStage();
+        CompletableFuture<SmallRyeHealth> second = reporter.getLivenessAsync().subscribeAsCompletionStage();
+        response.complete(HealthCheckResponse.up("single"));
+
+        assertSame(first.join(), second.join());
+        assertEquals(1, invocations.get());
+
+        // the evaluation has completed so the next request triggers a new one
+        reporter.getLiveness();
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void startupLatchTest() {
+        useOwnRegistries();
+        reporter.setStartupLatch(true);
+
+        AtomicInteger invocations = new AtomicInteger();
+        reporter.startupHealthRegistry.register("startup", (HealthCheck) () -> invocations.incrementAndGet() == 1
+                ? HealthCheckResponse.down("startup")
+                : HealthCheckResponse.up("startup"));
+
+        assertEquals(DOWN, reporter.getStartup().getStatus());
+        SmallRyeHealth started = reporter.getStartup();
+        assertEquals(UP, started.getStatus());
+        assertEquals(2, invocations.get());
+
+        // the startup checks are latched after reporting UP
+        assertSame(started, reporter.getStartup());
+        assertEquals(UP, reporter.getStartupStatus());
+        assertEquals(UP, reporter.getHealth().getStatus());
+        assertEquals(2, invocations.get());
+
+        reporter.resetStartupLatch();
+        assertEquals(UP, reporter.getStartup().getStatus());
+        assertEquals(3, invocations.get());
+    }
+
+    @Test
+    public void scheduledEvaluationTest() throws InterruptedException {
+        AtomicInteger invocations = new AtomicInteger();
+        reporter.addHealthCheck((HealthCheck) () -> HealthCheckResponse.up("scheduled-" + invocations.incrementAndGet()));
+        reporter.setScheduledEvaluationInterval(Duration.ofHours(1));
+
+        try {
+            // the first request is evaluated directly and starts the background evaluation
+            reporter.getLiveness();
+
+            long deadline = System.nanoTime() + maxDuration.toNanos();
+            while (reporter.snapshot == null && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertNotNull(reporter.snapshot);
+            assertEquals(2, invocations.get());
+
+            // the direct and the background evaluations run concurrently, so either one may be the second invocation
+            SmallRyeHealth published = reporter.snapshot.types().get(HealthType.LIVENESS);
+            for (int i = 0; i < 5; i++) {
+                SmallRyeHealth health = reporter.getLiveness();
+                assertSame(published, health);
+                assertSame(health, reporter.getLivenessAsync().await().atMost(maxDuration));
+            }
+            assertEquals(2, invocations.get());
+        } finally {
+            reporter.shutdown();
+        }
+    }
+
+    @Test
+    public void scheduledEvaluationSubMillisecondIntervalTest() throws InterruptedException {
+        AtomicInteger invocations = new AtomicInteger();
+        reporter.addHealthCheck((HealthCheck) () -> HealthCheckResponse.up("scheduled-" + invocations.incrementAndGet()));
+        reporter.setScheduledEvaluationInterval(Duration.ofNanos(500));
+        assertEquals(Duration.ofMillis(1), reporter.scheduledEvaluationInterval);
+
+        try {
+            assertEquals(UP, reporter.getLiveness().getStatus());
+
+            long deadline = System.nanoTime() + maxDuration.toNanos();
+            while (reporter.snapshot == null && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertNotNull(reporter.snapshot);
+        } finally {
+            reporter.shutdown();
+        }
+    }
+
+    @Test
+    public void scheduledEvaluationNotRestartedAfterShutdownTest() throws InterruptedException {
+        AtomicInteger invocations = new AtomicInteger();
+        reporter.addHealthCheck((HealthCheck) () -> HealthCheckResponse.up("scheduled-" + invocations.incrementAndGet()));
+        reporter.setScheduledEvaluationInterval(Duration.ofMillis(10));
+        reporter.shutdown();
+
+        // the requests are evaluated directly and don't start the background evaluation anymore
+        reporter.getLiveness();
+        reporter.getLivenessStatus();
+        Thread.sleep(100);
+
+        assertEquals(2, invocations.get());
+        assertNull(reporter.snapshot);
+    }
+
     @Test
     public void nullHealthCheckConfigsTest() {
         assertThrows(NullPointerException.class, () -> reporter.setHealthChecksConfigs(null));
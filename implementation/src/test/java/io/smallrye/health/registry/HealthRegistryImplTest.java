@@ -0,0 +1,125 @@
+package io.smallrye.health.registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.health.api.HealthCheckLease;
+import io.smallrye.mutiny.Uni;
+
+public class HealthRegistryImplTest {
+
+    private static final Duration maxDuration = Duration.ofSeconds(5);
+
+    private HealthRegistryImpl registry;
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @BeforeEach
+    public void beforeEach() {
+        registry = new HealthRegistryImpl();
+        registry.asyncHealthCheckFactory.getResultCache().setDefaultTtl(Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void reregisteredCheckNotServedCachedResponseTest() {
+        registry.register("check", (HealthCheck) () -> HealthCheckResponse.up("first"));
+        assertEquals(List.of("first"), names());
+
+        registry.register("check", (HealthCheck) () -> HealthCheckResponse.up("second"));
+        assertEquals(List.of("second"), names());
+        assertEquals(List.of("second"), names());
+    }
+
+    @Test
+    public void removedCheckEvictedFromCacheTest() {
+        HealthCheck check = () -> HealthCheckResponse.up("tenant");
+        registry.register("tenant-1", check);
+        registry.register("tenant-2", check);
+        assertEquals(List.of("tenant", "tenant"), names());
+        assertEquals(2, registry.asyncHealthCheckFactory.getResultCache().getMisses());
+
+        registry.removeByPrefix("tenant-");
+        registry.register("tenant-1", check);
+        assertEquals(List.of("tenant"), names());
+        assertEquals(3, registry.asyncHealthCheckFactory.getResultCache().getMisses());
+    }
+
+    @Test
+    public void leaseExpirationRemovesCheckTest() {
+        HealthRegistryImpl leaseRegistry = leaseRegistry();
+        HealthCheckLease lease = leaseRegistry.registerWithLease("worker-1", () -> HealthCheckResponse.up("worker-1"),
+                Duration.ofMillis(300), HealthCheckLease.ExpirationPolicy.REMOVE);
+
+        for (int i = 0; i < 5; i++) {
+            advance(leaseRegistry, 100);
+            assertTrue(lease.renew());
+        }
+        assertTrue(leaseRegistry.getSnapshot().checks().containsKey("worker-1"));
+
+        advance(leaseRegistry, 299);
+        assertFalse(lease.isExpired());
+        assertTrue(leaseRegistry.getSnapshot().checks().containsKey("worker-1"));
+
+        // the deadline passes at the end of a tick, the check is removed once the next tick is over
+        advance(leaseRegistry, 1);
+        assertTrue(lease.isExpired());
+        assertTrue(leaseRegistry.getSnapshot().checks().containsKey("worker-1"));
+
+        advance(leaseRegistry, 100);
+        assertFalse(leaseRegistry.getSnapshot().checks().containsKey("worker-1"));
+        assertFalse(lease.renew());
+    }
+
+    @Test
+    public void leaseExpirationReportsDownTest() {
+        HealthRegistryImpl leaseRegistry = leaseRegistry();
+        HealthCheckLease lease = leaseRegistry.registerWithLease("worker-2",
+                () -> Uni.createFrom().item(HealthCheckResponse.up("worker-2")), Duration.ofMillis(100),
+                HealthCheckLease.ExpirationPolicy.DOWN);
+
+        advance(leaseRegistry, 200);
+        HealthCheckResponse response = leaseRegistry.getChecks(Map.of()).iterator().next().await().atMost(maxDuration);
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertEquals(true, response.getData().orElseThrow().get("leaseExpired"));
+
+        assertTrue(lease.renew());
+        response = leaseRegistry.getChecks(Map.of()).iterator().next().await().atMost(maxDuration);
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
+
+        lease.release();
+        assertTrue(leaseRegistry.getChecks(Map.of()).isEmpty());
+    }
+
+    /**
+     * @return a registry whose leases expire with the ticks of {@link #advance}
+     */
+    private HealthRegistryImpl leaseRegistry() {
+        HealthRegistryImpl leaseRegistry = new HealthRegistryImpl();
+        leaseRegistry.leaseTimerWheel = new HashedTimerWheel(100, TimeUnit.MILLISECONDS, 8, nanoTime::get);
+        return leaseRegistry;
+    }
+
+    private void advance(HealthRegistryImpl leaseRegistry, long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        leaseRegistry.leaseTimerWheel.advance();
+    }
+
+    private List<String> names() {
+        return registry.getChecks(id -> true).stream()
+                .map(Uni::await)
+                .map(await -> await.atMost(maxDuration).getName())
+                .collect(Collectors.toList());
+    }
+}
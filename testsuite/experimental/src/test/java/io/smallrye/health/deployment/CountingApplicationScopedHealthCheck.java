@@ -0,0 +1,21 @@
+package io.smallrye.health.deployment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+
+@Liveness
+@ApplicationScoped
+public class CountingApplicationScopedHealthCheck implements HealthCheck {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.up("counting-" + invocations.incrementAndGet());
+    }
+}
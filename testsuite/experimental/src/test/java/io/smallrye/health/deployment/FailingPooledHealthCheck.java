@@ -0,0 +1,18 @@
+package io.smallrye.health.deployment;
+
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+
+@Dependent
+@Liveness
+public class FailingPooledHealthCheck implements HealthCheck {
+
+    @Override
+    public HealthCheckResponse call() {
+        PooledCallRecorder.failingInstances.add(this);
+        throw new IllegalStateException("this health check has failed");
+    }
+}
@@ -0,0 +1,13 @@
+package io.smallrye.health.deployment;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PooledCallRecorder {
+
+    public static final Set<Object> failingInstances = ConcurrentHashMap.newKeySet();
+    public static final Set<Object> timingOutInstances = ConcurrentHashMap.newKeySet();
+    public static final AtomicInteger destroyedWhileRunning = new AtomicInteger();
+
+}
@@ -0,0 +1,51 @@
+package io.smallrye.health.deployment;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.stream.JsonGenerator;
+
+import io.smallrye.health.api.ForwardingJsonGenerator;
+import io.smallrye.health.api.HealthContentStreamFilter;
+
+@ApplicationScoped
+public class TestHealthContentStreamFilter implements HealthContentStreamFilter {
+
+    @Override
+    public JsonGenerator filter(JsonGenerator generator) {
+        return new ForwardingJsonGenerator(generator) {
+            private int depth;
+
+            @Override
+            public JsonGenerator writeStartObject() {
+                depth++;
+                return super.writeStartObject();
+            }
+
+            @Override
+            public JsonGenerator writeStartObject(String name) {
+                depth++;
+                return super.writeStartObject(name);
+            }
+
+            @Override
+            public JsonGenerator writeStartArray() {
+                depth++;
+                return super.writeStartArray();
+            }
+
+            @Override
+            public JsonGenerator writeStartArray(String name) {
+                depth++;
+                return super.writeStartArray(name);
+            }
+
+            @Override
+            public JsonGenerator writeEnd() {
+                if (--depth == 0) {
+                    // the end of the root object
+                    delegate.write("streamed", "foo");
+                }
+                return super.writeEnd();
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.health.deployment;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.Dependent;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+
+@Dependent
+@Liveness
+public class TimingOutPooledHealthCheck implements HealthCheck {
+
+    private volatile boolean running;
+
+    @Override
+    public HealthCheckResponse call() {
+        running = true;
+        PooledCallRecorder.timingOutInstances.add(this);
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            // keeps running for a while after the interrupt like a check blocked in an uninterruptible call
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() - end < 0) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            running = false;
+        }
+        return HealthCheckResponse.up(TimingOutPooledHealthCheck.class.getName());
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        if (running) {
+            PooledCallRecorder.destroyedWhileRunning.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.smallrye.health.test;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.smallrye.health.deployment.CountingApplicationScopedHealthCheck;
+
+@RunAsClient
+public class ApplicationScopedCheckCacheTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return DeploymentUtils.createWarFileWithClasses(ApplicationScopedCheckCacheTest.class.getSimpleName(),
+                CountingApplicationScopedHealthCheck.class, TCKBase.class)
+                .addAsManifestResource(new StringAsset("io.smallrye.health.check."
+                        + CountingApplicationScopedHealthCheck.class.getName() + ".cache-ttl=PT1M"),
+                        "microprofile-config.properties");
+    }
+
+    /**
+     * Verifies that the cache TTL configured for the class of a normal-scoped bean applies to its client proxy
+     */
+    @Test
+    public void testConfiguredTtlApplied() {
+        for (int i = 0; i < 3; i++) {
+            Response response = getUrlLiveContents();
+            Assert.assertEquals(response.getStatus(), 200);
+            Assert.assertEquals(readJson(response).getJsonArray("checks").getJsonObject(0).getString("name"),
+                    "counting-1", "Expected the cached response of the first invocation");
+        }
+    }
+}
@@ -35,12 +35,14 @@ import org.testng.annotations.Test;
 import io.smallrye.health.deployment.SuccessLiveness;
 import io.smallrye.health.deployment.TestHealthContentFilter;
 import io.smallrye.health.deployment.TestHealthContentFilter2;
+import io.smallrye.health.deployment.TestHealthContentStreamFilter;
 
 @RunAsClient
 public class HealthContentFilterTest extends TCKBase {
 
     private static final String DEPLOYMENT_1 = "deployment1";
     private static final String DEPLOYMENT_2 = "deployment2";
+    private static final String DEPLOYMENT_3 = "deployment3";
 
     @Deployment(name = DEPLOYMENT_1)
     public static Archive getDeployment() {
@@ -54,6 +56,13 @@ public class HealthContentFilterTest extends TCKBase {
                 TestHealthContentFilter.class, TestHealthContentFilter2.class, SuccessLiveness.class, TCKBase.class);
     }
 
+    @Deployment(name = DEPLOYMENT_3)
+    public static Archive getDeployment3() {
+        return DeploymentUtils.createWarFileWithClasses(HealthContentFilterTest.class.getSimpleName() + "3",
+                TestHealthContentFilter.class, TestHealthContentStreamFilter.class, SuccessLiveness.class,
+                TCKBase.class);
+    }
+
     /**
      * Verifies that the filter implementations process the payload before its returned to the caller.
      */
@@ -109,4 +118,30 @@ public class HealthContentFilterTest extends TCKBase {
         Assert.assertEquals("bar2", json.getString("foo2"));
     }
 
+    /**
+     * Verifies that the stream filter implementations edit the payload written after the other filters.
+     */
+    @Test
+    @OperateOnDeployment(DEPLOYMENT_3)
+    public void testHealthContentStreamFilterEditsReturnedJson() {
+        Response response = getUrlHealthContents();
+
+        // status code
+        Assert.assertEquals(response.getStatus(), 200);
+
+        JsonObject json = readJson(response);
+
+        // response size
+        JsonArray checks = json.getJsonArray("checks");
+        Assert.assertEquals(checks.size(), 1, "Expected one check response");
+
+        JsonObject checkJson = checks.getJsonObject(0);
+        Assert.assertEquals(SuccessLiveness.class.getName(), checkJson.getString("name"));
+        verifySuccessStatus(checkJson);
+
+        assertOverallSuccess(json);
+
+        Assert.assertEquals("bar", json.getString("foo"));
+        Assert.assertEquals("foo", json.getString("streamed"));
+    }
 }
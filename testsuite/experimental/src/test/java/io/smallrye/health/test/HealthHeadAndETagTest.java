@@ -0,0 +1,77 @@
+package io.smallrye.health.test;
+
+import java.util.Map;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.Archive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.smallrye.health.deployment.FailedWellness;
+import io.smallrye.health.deployment.SuccessLiveness;
+
+@RunAsClient
+public class HealthHeadAndETagTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return DeploymentUtils.createWarFileWithClasses(HealthHeadAndETagTest.class.getSimpleName(),
+                SuccessLiveness.class, FailedWellness.class, TCKBase.class);
+    }
+
+    /**
+     * Verifies that a HEAD request returns the status code and the content type of the report without the report
+     */
+    @Test
+    public void testHeadStatusCodes() {
+        Response live = headUrlLiveContents();
+        Assert.assertEquals(live.getStatus(), 200);
+        Assert.assertFalse(live.getBody().isPresent(), "Expected no body in a HEAD response");
+        assertJsonContentType(live);
+
+        Response well = headUrlWellContents();
+        Assert.assertEquals(well.getStatus(), 503);
+        Assert.assertFalse(well.getBody().isPresent(), "Expected no body in a HEAD response");
+        assertJsonContentType(well);
+
+        Response health = headUrlHealthContents();
+        Assert.assertEquals(health.getStatus(), 503);
+        assertJsonContentType(health);
+
+        assertJsonContentType(getUrlLiveContents());
+    }
+
+    /**
+     * Verifies that a request with the ETag of the current report is answered without the report
+     */
+    @Test
+    public void testMatchingETag() {
+        Response response = getUrlLiveContents();
+        Assert.assertEquals(response.getStatus(), 200);
+        String eTag = response.getHeader("ETag").orElseThrow(() -> new AssertionError("Expected an ETag header"));
+
+        Response notModified = getUrlLiveContents(Map.of("If-None-Match", eTag));
+        Assert.assertEquals(notModified.getStatus(), 304);
+        Assert.assertFalse(notModified.getBody().isPresent(), "Expected no body in a 304 response");
+        Assert.assertEquals(notModified.getHeader("ETag").orElse(null), eTag);
+    }
+
+    /**
+     * Verifies that a request with another ETag than the one of the current report gets the report
+     */
+    @Test
+    public void testMismatchingETag() {
+        Response response = getUrlLiveContents(Map.of("If-None-Match", "\"mismatch\""));
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertTrue(response.getBody().isPresent(), "Expected the report in the body");
+
+        assertSuccessfulCheck(readJson(response).getJsonArray("checks").getJsonObject(0), SuccessLiveness.class.getName());
+        assertOverallSuccess(readJson(response));
+    }
+
+    private void assertJsonContentType(Response response) {
+        Assert.assertTrue(response.getHeader("Content-Type").orElse("").startsWith("application/json"),
+                "Expected a JSON content type, got " + response.getHeader("Content-Type"));
+    }
+}
@@ -0,0 +1,42 @@
+package io.smallrye.health.test;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.smallrye.health.deployment.FailingPooledHealthCheck;
+import io.smallrye.health.deployment.PooledCallRecorder;
+import io.smallrye.health.deployment.TimingOutPooledHealthCheck;
+
+public class PooledDependentHealthChecksTest extends TCKBase {
+
+    @Deployment
+    public static Archive getDeployment() {
+        return DeploymentUtils.createWarFileWithClasses(PooledDependentHealthChecksTest.class.getSimpleName(),
+                FailingPooledHealthCheck.class, TimingOutPooledHealthCheck.class, PooledCallRecorder.class, TCKBase.class)
+                .addAsManifestResource(new StringAsset("io.smallrye.health.dependentChecks.pool.size=4\n"
+                        + "io.smallrye.health.check." + TimingOutPooledHealthCheck.class.getName() + ".timeout=PT0.2S"),
+                        "microprofile-config.properties");
+    }
+
+    @Test
+    public void testFailedInstancesNotReused() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            Response response = getUrlLiveContents();
+            Assert.assertEquals(response.getStatus(), 503);
+        }
+        // let the last timed out check return
+        TimeUnit.MILLISECONDS.sleep(500);
+
+        Assert.assertEquals(PooledCallRecorder.failingInstances.size(), 3,
+                "An instance whose check failed was invoked again");
+        Assert.assertEquals(PooledCallRecorder.timingOutInstances.size(), 3,
+                "An instance whose check timed out was invoked again");
+        Assert.assertEquals(PooledCallRecorder.destroyedWhileRunning.get(), 0,
+                "An instance was destroyed while its check was still running");
+    }
+}
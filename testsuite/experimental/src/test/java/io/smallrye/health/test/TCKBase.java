@@ -27,6 +27,8 @@ import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -35,12 +37,15 @@ import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
 
+import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.jboss.arquillian.test.api.ArquillianResource;
@@ -78,6 +83,22 @@ public abstract class TCKBase extends Arquillian {
         return getUrlContents(this.uri + "/health/live", false);
     }
 
+    Response getUrlLiveContents(Map<String, String> headers) {
+        return getUrlContents(this.uri + "/health/live", false, true, headers);
+    }
+
+    Response headUrlHealthContents() {
+        return execute(new HttpHead(this.uri + "/health"), false, true, Map.of());
+    }
+
+    Response headUrlLiveContents() {
+        return execute(new HttpHead(this.uri + "/health/live"), false, true, Map.of());
+    }
+
+    Response headUrlWellContents() {
+        return execute(new HttpHead(this.uri + "/health/well"), false, true, Map.of());
+    }
+
     Response getUrlReadyContents() {
         return getUrlContents(this.uri + "/health/ready", false);
     }
@@ -107,9 +128,15 @@ public abstract class TCKBase extends Arquillian {
     }
 
     private Response getUrlContents(String theUrl, boolean useAuth, boolean followRedirects, Map<String, String> headers) {
+        return execute(new HttpGet(theUrl), useAuth, followRedirects, headers);
+    }
+
+    private Response execute(HttpRequestBase request, boolean useAuth, boolean followRedirects,
+            Map<String, String> headers) {
 
         StringBuilder content = new StringBuilder();
         int code;
+        Map<String, String> responseHeaders = new HashMap<>();
 
         try {
 
@@ -126,10 +153,12 @@ public abstract class TCKBase extends Arquillian {
             }
 
             HttpClient client = builder.build();
-            var httpGet = new HttpGet(theUrl);
-            headers.forEach(httpGet::addHeader);
-            HttpResponse response = client.execute(httpGet);
+            headers.forEach(request::addHeader);
+            HttpResponse response = client.execute(request);
             code = response.getStatusLine().getStatusCode();
+            for (Header header : response.getAllHeaders()) {
+                responseHeaders.put(header.getName().toLowerCase(Locale.ROOT), header.getValue());
+            }
 
             if (response.getEntity() != null) {
 
@@ -148,7 +177,7 @@ public abstract class TCKBase extends Arquillian {
             throw new RuntimeException(e);
         }
 
-        return new Response(code, content.toString());
+        return new Response(code, content.toString(), responseHeaders);
     }
 
     public JsonObject readJson(Response response) {
@@ -208,8 +237,13 @@ public abstract class TCKBase extends Arquillian {
 
     public class Response {
         public Response(int status, String body) {
+            this(status, body, Map.of());
+        }
+
+        public Response(int status, String body, Map<String, String> headers) {
             this.status = status;
             this.body = body;
+            this.headers = headers;
         }
 
         public int getStatus() {
@@ -220,8 +254,17 @@ public abstract class TCKBase extends Arquillian {
             return (body != null && !body.equals("")) ? Optional.of(body) : Optional.empty();
         }
 
+        /**
+         * @param name the case-insensitive name of the header
+         */
+        public Optional<String> getHeader(String name) {
+            return Optional.ofNullable(headers.get(name.toLowerCase(Locale.ROOT)));
+        }
+
         private int status;
 
         private String body;
+
+        private Map<String, String> headers;
     }
 }
@@ -0,0 +1,61 @@
+package io.smallrye.health;
+
+import java.io.IOException;
+
+import jakarta.inject.Inject;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * Serves the health report returned by {@link #getHealth(HttpServletRequest)}. A conditional request is answered with
+ * 304 while the report is UP and its ETag hasn't changed, and a HEAD request only with the status of
+ * {@link #getStatus(HttpServletRequest)}.
+ */
+@SuppressWarnings("serial")
+public abstract class SmallRyeHealthReportServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+
+        SmallRyeHealth health = getHealth(req);
+        String eTag = reporter.getETag(health);
+        resp.setContentType("application/json");
+        resp.setHeader("ETag", eTag);
+        if (!health.isDown() && eTag.equals(req.getHeader("If-None-Match"))) {
+            resp.setStatus(304);
+            return;
+        }
+        if (health.isDown()) {
+            resp.setStatus(503);
+        }
+        try {
+            reporter.reportHealth(resp.getOutputStream(), health);
+        } catch (IOException ioe) {
+            HealthLogging.logger.error(ioe);
+            resp.setStatus(500);
+        }
+    }
+
+    @Override
+    protected void doHead(HttpServletRequest req, HttpServletResponse resp) {
+        resp.setContentType("application/json");
+        if (getStatus(req) == HealthCheckResponse.Status.DOWN) {
+            resp.setStatus(503);
+        }
+    }
+
+    protected abstract SmallRyeHealth getHealth(HttpServletRequest req);
+
+    /**
+     * @return the status of the report, the servlets override it to evaluate the status without building the report
+     */
+    protected HealthCheckResponse.Status getStatus(HttpServletRequest req) {
+        return getHealth(req).getStatus();
+    }
+
+    @Inject
+    SmallRyeHealthReporter reporter;
+}
@@ -1,32 +1,21 @@
 package io.smallrye.health;
 
-import java.io.IOException;
-
-import jakarta.inject.Inject;
 import jakarta.servlet.annotation.WebServlet;
-import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
 
 @SuppressWarnings("serial")
 @WebServlet(name = "SmallRyeStartupServlet", urlPatterns = "/health/started")
-public class SmallRyeStartupServlet extends HttpServlet {
+public class SmallRyeStartupServlet extends SmallRyeHealthReportServlet {
 
     @Override
-    protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
-
-        SmallRyeHealth health = reporter.getStartup();
-        if (health.isDown()) {
-            resp.setStatus(503);
-        }
-        try {
-            reporter.reportHealth(resp.getOutputStream(), health);
-        } catch (IOException ioe) {
-            HealthLogging.logger.error(ioe);
-            resp.setStatus(500);
-        }
+    protected SmallRyeHealth getHealth(HttpServletRequest req) {
+        return reporter.getStartup();
     }
 
-    @Inject
-    private SmallRyeHealthReporter reporter;
+    @Override
+    protected HealthCheckResponse.Status getStatus(HttpServletRequest req) {
+        return reporter.getStartupStatus();
+    }
 }